@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드 준비: AOT 처리된 jar 빌드 -> jar 압축 해제 -> 학습 실행으로 CDS 아카이브 생성
+#
+# 사용법: scripts/build-fast-start.sh [학습 실행 인자...]
+#   학습 실행은 컨텍스트 refresh 직후 종료하므로(spring.context.exit=onRefresh) 적재는 하지 않지만,
+#   스키마 초기화와 JobRepository 생성을 위해 운영과 같은 DB 설정이 필요
+#   예) scripts/build-fast-start.sh --spring.datasource.url=jdbc:mysql://db:3306/authdb
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/build/fast-start"
+
+cd "$ROOT"
+./gradlew -q bootJar -Paot
+JAR=$(./gradlew -q printBootJarPath -Paot)
+if [[ ! -f "$JAR" ]]; then
+    echo "bootJar 산출물을 찾을 수 없습니다: $JAR" >&2
+    exit 1
+fi
+
+# CDS는 중첩 jar 안의 클래스를 아카이브하지 못하므로 애플리케이션 jar + lib/ 구조로 압축 해제
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+APP_JAR="$OUT/$(basename "$JAR")"
+# 실행/비교 스크립트는 Gradle을 다시 호출하지 않고 이 경로를 사용 (기동 시간에 Gradle 실행을 넣지 않음)
+echo "$JAR" > "$OUT/boot-jar.path"
+
+# 운영 실행(run-fast-start.sh)과 같은 클래스패스/옵션으로 학습해야 아카이브가 사용됨
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" \
+     -Dspring.aot.enabled=true \
+     -Dspring.context.exit=onRefresh \
+     -jar "$APP_JAR" "$@"
+
+echo "빠른 기동 모드 준비 완료: $APP_JAR, $OUT/application.jsa"
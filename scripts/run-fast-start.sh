@@ -0,0 +1,25 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드 실행: AOT 처리된 컨텍스트 + CDS 아카이브 (build-fast-start.sh로 먼저 준비)
+#
+# 사용법: scripts/run-fast-start.sh [애플리케이션 인자...]
+#   JVM 옵션은 JAVA_OPTS로 전달 (예: JAVA_OPTS="-Xmx2g" scripts/run-fast-start.sh)
+#   jar를 다시 빌드했거나 JDK가 바뀌면 아카이브가 맞지 않아 CDS 없이 기동되므로 준비 단계를 다시 실행
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/build/fast-start"
+APP_JAR=""
+if [[ -f "$OUT/boot-jar.path" ]]; then
+    APP_JAR="$OUT/$(basename "$(cat "$OUT/boot-jar.path")")"
+fi
+
+if [[ ! -f "$APP_JAR" || ! -f "$OUT/application.jsa" ]]; then
+    echo "빠른 기동 모드가 준비되지 않았습니다: scripts/build-fast-start.sh 를 먼저 실행하세요" >&2
+    exit 1
+fi
+
+# shellcheck disable=SC2086
+exec java ${JAVA_OPTS:-} \
+     -XX:SharedArchiveFile="$OUT/application.jsa" \
+     -Dspring.aot.enabled=true \
+     -jar "$APP_JAR" "$@"
@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# 기동 시간 비교: JVM 시작부터 컨텍스트 refresh 직후 종료(spring.context.exit=onRefresh)까지의 벽시계 시간
+# 기본 jar / 압축 해제 jar / + AOT / + AOT + CDS(빠른 기동 모드)를 번갈아 실행하고 모드별 중앙값을 출력
+#
+# 사용법: scripts/startup-benchmark.sh [반복 횟수] [애플리케이션 인자...]
+#   build-fast-start.sh로 먼저 준비하고, 학습 실행과 같은 애플리케이션 인자(DB 설정 등)를 전달
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+OUT="$ROOT/build/fast-start"
+RUNS=${1:-10}
+shift || true
+
+FAT_JAR=""
+APP_JAR=""
+if [[ -f "$OUT/boot-jar.path" ]]; then
+    FAT_JAR=$(cat "$OUT/boot-jar.path")
+    APP_JAR="$OUT/$(basename "$FAT_JAR")"
+fi
+if [[ ! -f "$FAT_JAR" || ! -f "$APP_JAR" || ! -f "$OUT/application.jsa" ]]; then
+    echo "빠른 기동 모드가 준비되지 않았습니다: scripts/build-fast-start.sh 를 먼저 실행하세요" >&2
+    exit 1
+fi
+
+MODES=("fat-jar" "extracted" "extracted+aot" "extracted+aot+cds")
+
+# 모드별 JVM 옵션과 jar (JVM 옵션은 -jar 앞에 와야 함)
+launch() {
+    local mode=$1
+    shift
+    case "$mode" in
+        fat-jar)           java -Dspring.context.exit=onRefresh -jar "$FAT_JAR" "$@" ;;
+        extracted)         java -Dspring.context.exit=onRefresh -jar "$APP_JAR" "$@" ;;
+        extracted+aot)     java -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true -jar "$APP_JAR" "$@" ;;
+        extracted+aot+cds) java -Dspring.context.exit=onRefresh -Dspring.aot.enabled=true \
+                                -XX:SharedArchiveFile="$OUT/application.jsa" -jar "$APP_JAR" "$@" ;;
+    esac
+}
+
+declare -A TIMES
+for ((run = 1; run <= RUNS; run++)); do
+    # 모드를 번갈아 실행하여 디스크 캐시/DB 상태 변화가 한 모드에 몰리지 않게 함
+    for mode in "${MODES[@]}"; do
+        start=$(date +%s%N)
+        launch "$mode" "$@" > /dev/null 2>&1 || { echo "$mode 실행 실패" >&2; exit 1; }
+        end=$(date +%s%N)
+        TIMES[$mode]+="$(( (end - start) / 1000000 )) "
+    done
+done
+
+printf '%-20s %10s %10s %10s\n' "mode" "median(ms)" "min(ms)" "max(ms)"
+for mode in "${MODES[@]}"; do
+    sorted=$(tr ' ' '\n' <<< "${TIMES[$mode]}" | grep -v '^$' | sort -n)
+    count=$(wc -l <<< "$sorted")
+    median=$(sed -n "$(( (count + 1) / 2 ))p" <<< "$sorted")
+    printf '%-20s %10s %10s %10s\n' "$mode" "$median" "$(head -1 <<< "$sorted")" "$(tail -1 <<< "$sorted")"
+done
@@ -1,10 +1,9 @@
 package com.dd3ok.publicdataexporter;
 
-import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
-import org.springframework.batch.core.JobParametersBuilder;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetImportRunner;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DirectoryWatchLauncher;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.ApplicationContext;
@@ -17,13 +16,15 @@ public class PublicDataExporterApplication {
     public static void main(String[] args) throws Exception {
         ApplicationContext context = SpringApplication.run(PublicDataExporterApplication.class, args);
 
-        JobLauncher jobLauncher = context.getBean(JobLauncher.class);
-        Job job = context.getBean("restaurantCsvToDbJob", Job.class);
+        // 디렉터리 감시 모드: JVM을 유지하며 도착하는 파일마다 적재
+        if (context.getBean(ImporterProperties.class).getWatch().isEnabled()) {
+            context.getBean(DirectoryWatchLauncher.class).watch();
+            return;
+        }
 
-        JobParameters jobParameters = new JobParametersBuilder()
-                .addLocalDateTime("launchTime", LocalDateTime.now())
-                .toJobParameters();
-
-        jobLauncher.run(job, jobParameters);
+        // 설정된 모든 데이터셋을 공유 스레드/커넥션 예산 안에서 큰 파일부터 동시 적재
+        // 실패한 데이터셋이 있으면 예외가 main 밖으로 전파되어 0이 아닌 종료 코드로 끝남
+        DatasetImportRunner runner = context.getBean(DatasetImportRunner.class);
+        runner.runAll(LocalDateTime.now());
     }
 }
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.dd3ok.publicdataexporter.domain.geo;
+
+/**
+ * EPSG:5174 (Korean 1985 / Modified Central Belt, Bessel 1841 TM) 좌표를 WGS84 위경도로 변환
+ *
+ * 변환 순서:
+ * 1. TM 역투영으로 Bessel 타원체 위경도 계산
+ * 2. Bessel 지심좌표 -> 7-파라미터 Helmert 변환 -> WGS84 지심좌표
+ * 3. WGS84 지심좌표 -> 위경도 (Bowring 공식)
+ *
+ * 청크 단위로 primitive double 배열을 한 번에 변환하여 객체 생성 없이 처리합니다.
+ * 상태가 없으므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+public final class Epsg5174Transformer {
+
+    // Bessel 1841 타원체
+    private static final double BESSEL_A = 6377397.155;
+    private static final double BESSEL_F = 1 / 299.1528128;
+    private static final double BESSEL_E2 = 2 * BESSEL_F - BESSEL_F * BESSEL_F;
+    private static final double BESSEL_EP2 = BESSEL_E2 / (1 - BESSEL_E2);
+
+    // WGS84 타원체
+    private static final double WGS84_A = 6378137.0;
+    private static final double WGS84_F = 1 / 298.257223563;
+    private static final double WGS84_B = WGS84_A * (1 - WGS84_F);
+    private static final double WGS84_E2 = 2 * WGS84_F - WGS84_F * WGS84_F;
+    private static final double WGS84_EP2 = WGS84_E2 / (1 - WGS84_E2);
+
+    // EPSG:5174 투영 파라미터
+    private static final double LAT0 = Math.toRadians(38.0);
+    private static final double LON0 = Math.toRadians(127.0028902777778);
+    private static final double K0 = 1.0;
+    private static final double FALSE_EASTING = 200000.0;
+    private static final double FALSE_NORTHING = 500000.0;
+
+    // towgs84=-115.80,474.99,674.11,1.16,-2.31,-1.63,6.43 (Position Vector)
+    private static final double DX = -115.80;
+    private static final double DY = 474.99;
+    private static final double DZ = 674.11;
+    private static final double RX = Math.toRadians(1.16 / 3600);
+    private static final double RY = Math.toRadians(-2.31 / 3600);
+    private static final double RZ = Math.toRadians(-1.63 / 3600);
+    private static final double SCALE = 1 + 6.43e-6;
+
+    // 자오선 호장 계산 계수 (Snyder)
+    private static final double E4 = BESSEL_E2 * BESSEL_E2;
+    private static final double E6 = E4 * BESSEL_E2;
+    private static final double M1 = 1 - BESSEL_E2 / 4 - 3 * E4 / 64 - 5 * E6 / 256;
+    private static final double M2 = 3 * BESSEL_E2 / 8 + 3 * E4 / 32 + 45 * E6 / 1024;
+    private static final double M3 = 15 * E4 / 256 + 45 * E6 / 1024;
+    private static final double M4 = 35 * E6 / 3072;
+    private static final double MERIDIAN_ARC_LAT0 = meridianArc(LAT0);
+
+    private static final double E1 = (1 - Math.sqrt(1 - BESSEL_E2)) / (1 + Math.sqrt(1 - BESSEL_E2));
+    private static final double P2 = 3 * E1 / 2 - 27 * E1 * E1 * E1 / 32;
+    private static final double P4 = 21 * E1 * E1 / 16 - 55 * E1 * E1 * E1 * E1 / 32;
+    private static final double P6 = 151 * E1 * E1 * E1 / 96;
+    private static final double P8 = 1097 * E1 * E1 * E1 * E1 / 512;
+
+    /**
+     * 좌표 배열을 일괄 변환
+     * 입력값이 NaN인 위치는 결과도 NaN으로 채웁니다.
+     *
+     * @param x     EPSG:5174 X (동향) 좌표
+     * @param y     EPSG:5174 Y (북향) 좌표
+     * @param lat   WGS84 위도 결과 (도)
+     * @param lon   WGS84 경도 결과 (도)
+     * @param count 변환할 좌표 수
+     */
+    public void transform(double[] x, double[] y, double[] lat, double[] lon, int count) {
+        for (int i = 0; i < count; i++) {
+            double easting = x[i];
+            double northing = y[i];
+            if (Double.isNaN(easting) || Double.isNaN(northing)) {
+                lat[i] = Double.NaN;
+                lon[i] = Double.NaN;
+                continue;
+            }
+
+            // 1. TM 역투영 (Bessel)
+            double m = MERIDIAN_ARC_LAT0 + (northing - FALSE_NORTHING) / K0;
+            double mu = m / (BESSEL_A * M1);
+            double phi1 = mu + P2 * Math.sin(2 * mu) + P4 * Math.sin(4 * mu)
+                    + P6 * Math.sin(6 * mu) + P8 * Math.sin(8 * mu);
+
+            double sinPhi1 = Math.sin(phi1);
+            double cosPhi1 = Math.cos(phi1);
+            double tanPhi1 = sinPhi1 / cosPhi1;
+            double c1 = BESSEL_EP2 * cosPhi1 * cosPhi1;
+            double t1 = tanPhi1 * tanPhi1;
+            double w = 1 - BESSEL_E2 * sinPhi1 * sinPhi1;
+            double n1 = BESSEL_A / Math.sqrt(w);
+            double r1 = BESSEL_A * (1 - BESSEL_E2) / (w * Math.sqrt(w));
+            double d = (easting - FALSE_EASTING) / (n1 * K0);
+            double d2 = d * d;
+
+            double phi = phi1 - (n1 * tanPhi1 / r1) * (d2 / 2
+                    - (5 + 3 * t1 + 10 * c1 - 4 * c1 * c1 - 9 * BESSEL_EP2) * d2 * d2 / 24
+                    + (61 + 90 * t1 + 298 * c1 + 45 * t1 * t1 - 252 * BESSEL_EP2 - 3 * c1 * c1) * d2 * d2 * d2 / 720);
+            double lambda = LON0 + (d
+                    - (1 + 2 * t1 + c1) * d2 * d / 6
+                    + (5 - 2 * c1 + 28 * t1 - 3 * c1 * c1 + 8 * BESSEL_EP2 + 24 * t1 * t1) * d2 * d2 * d / 120) / cosPhi1;
+
+            // 2. Bessel 지심좌표 (타원체고 0)
+            double sinPhi = Math.sin(phi);
+            double cosPhi = Math.cos(phi);
+            double n = BESSEL_A / Math.sqrt(1 - BESSEL_E2 * sinPhi * sinPhi);
+            double gx = n * cosPhi * Math.cos(lambda);
+            double gy = n * cosPhi * Math.sin(lambda);
+            double gz = n * (1 - BESSEL_E2) * sinPhi;
+
+            // 3. Helmert 7-파라미터 변환
+            double wx = DX + SCALE * (gx - RZ * gy + RY * gz);
+            double wy = DY + SCALE * (RZ * gx + gy - RX * gz);
+            double wz = DZ + SCALE * (-RY * gx + RX * gy + gz);
+
+            // 4. WGS84 지심좌표 -> 위경도 (Bowring)
+            double p = Math.sqrt(wx * wx + wy * wy);
+            double theta = Math.atan2(wz * WGS84_A, p * WGS84_B);
+            double sinTheta = Math.sin(theta);
+            double cosTheta = Math.cos(theta);
+            double latitude = Math.atan2(
+                    wz + WGS84_EP2 * WGS84_B * sinTheta * sinTheta * sinTheta,
+                    p - WGS84_E2 * WGS84_A * cosTheta * cosTheta * cosTheta);
+
+            lat[i] = Math.toDegrees(latitude);
+            lon[i] = Math.toDegrees(Math.atan2(wy, wx));
+        }
+    }
+
+    private static double meridianArc(double phi) {
+        return BESSEL_A * (M1 * phi - M2 * Math.sin(2 * phi) + M3 * Math.sin(4 * phi) - M4 * Math.sin(6 * phi));
+    }
+}
@@ -0,0 +1,67 @@
+package com.dd3ok.publicdataexporter.domain.geo;
+
+/**
+ * WGS84 위경도를 Geohash 문자열로 인코딩하는 유틸리티
+ * 접두어가 같으면 인접한 영역이므로, 인덱스된 컬럼에 대한 LIKE 'prefix%' 범위 검색으로 근접 조회가 가능합니다.
+ */
+public final class GeoHash {
+
+    /**
+     * 저장 정밀도: 9자리 (약 4.8m x 4.8m 셀)
+     */
+    public static final int DEFAULT_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    /**
+     * @param latitude  위도 (도)
+     * @param longitude 경도 (도)
+     * @param precision Geohash 문자 수 (1 ~ 12)
+     * @return Geohash 문자열
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12: " + precision);
+        }
+
+        double minLat = -90, maxLat = 90;
+        double minLon = -180, maxLon = 180;
+        char[] hash = new char[precision];
+        boolean evenBit = true; // 짝수 비트는 경도, 홀수 비트는 위도
+        int bit = 0;
+        int index = 0;
+
+        for (int i = 0; i < precision; ) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash[i++] = BASE32[index];
+                bit = 0;
+                index = 0;
+            }
+        }
+        return new String(hash);
+    }
+}
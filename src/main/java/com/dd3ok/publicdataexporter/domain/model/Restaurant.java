@@ -44,6 +44,9 @@ public class Restaurant {
     private Double totalFacilitySize;           // 시설총규모
     private String traditionalBusinessNumber;   // 전통업소지정번호 
     private String traditionalBusinessMainFood; // 전통업소주된음식 
+    private Double latitude;                    // WGS84 위도 (좌표정보 변환값)
+    private Double longitude;                   // WGS84 경도 (좌표정보 변환값)
+    private String geohash;                     // WGS84 위경도의 Geohash
 
     @Builder
     public Restaurant(String managementNumber, LocalDate licensingDate, LocalDate closeDate,
@@ -56,7 +59,8 @@ public class Restaurant {
                       String surroundingAreaType, String gradeType, String waterFacilityType,
                       String buildingOwnershipType, Integer monthlyRent, String multiUseBusinessYn,
                       Double totalFacilitySize, String traditionalBusinessNumber,
-                      String traditionalBusinessMainFood) {
+                      String traditionalBusinessMainFood, Double latitude, Double longitude,
+                      String geohash) {
         this.managementNumber = managementNumber;
         this.licensingDate = licensingDate;
         this.closeDate = closeDate;
@@ -85,5 +89,17 @@ public class Restaurant {
         this.totalFacilitySize = totalFacilitySize;
         this.traditionalBusinessNumber = traditionalBusinessNumber;
         this.traditionalBusinessMainFood = traditionalBusinessMainFood;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = geohash;
+    }
+
+    /**
+     * EPSG:5174 좌표를 변환한 WGS84 위치 정보를 설정
+     */
+    public void locate(double latitude, double longitude, String geohash) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geohash = geohash;
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 행 파일을 블록 인덱스만 읽어 연속된 블록 범위로 분할 (재생 모드)
+ * 파일 전체를 훑어 라인 수를 세지 않으며, 파티션 경계는 항상 블록 경계
+ */
+@Slf4j
+public class BinaryBlockPartitioner implements Partitioner {
+
+    private Path file;
+    private long minLinesPerPartition = 1;
+
+    public void setFile(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * 파티션당 최소 행 수: 작은 파일은 gridSize보다 적은 파티션으로 분할
+     */
+    public void setMinLinesPerPartition(long minLinesPerPartition) {
+        this.minLinesPerPartition = minLinesPerPartition;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int blockCount;
+        long rowCount;
+        try (RestaurantBinaryFile binaryFile = RestaurantBinaryFile.open(file)) {
+            blockCount = binaryFile.blockCount();
+            rowCount = binaryFile.rowCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read binary row file: " + file, e);
+        }
+        Assert.isTrue(blockCount > 0, "Binary row file must not be empty.");
+
+        gridSize = (int) Math.max(1, Math.min(Math.min(gridSize, blockCount), rowCount / Math.max(1, minLinesPerPartition)));
+        log.info("Total rows: {}, Blocks: {}, Partitions: {}", rowCount, blockCount, gridSize);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int start = 0;
+        for (int i = 0; i < gridSize; i++) {
+            // 나머지 블록은 앞쪽 파티션부터 하나씩 더 배정
+            int end = start + blockCount / gridSize + (i < blockCount % gridSize ? 1 : 0) - 1;
+            ExecutionContext context = new ExecutionContext();
+            context.putInt("startBlock", start);
+            context.putInt("endBlock", end);
+            partitions.put("partition" + i, context);
+            log.info("Created partition{}: startBlock={}, endBlock={}", i, start, end);
+            start = end + 1;
+        }
+        return partitions;
+    }
+}
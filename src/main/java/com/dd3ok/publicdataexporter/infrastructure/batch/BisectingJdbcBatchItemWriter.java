@@ -0,0 +1,161 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 중복 키로 배치 INSERT가 실패하면 청크를 반씩 나누어 다시 쓰는 Writer 데코레이터
+ *
+ * Step 레벨 skip은 중복 한 건에도 청크 전체를 롤백하고 2000건을 아이템마다 별도 트랜잭션으로 다시 처리합니다.
+ * 이 Writer는 청크 트랜잭션 안에서 세이브포인트로 실패한 구간만 되돌리고 절반씩 나누어 재시도하므로,
+ * 중복 k건을 약 2k·log2(n/k)번의 배치 문장으로 찾아내고 나머지 행은 배치로 적재합니다.
+ *
+ * - 한 건만 남은 구간이 실패하면 해당 아이템을 스킵으로 처리
+ * - 청크 트랜잭션 안에서 등록된 SkipListener의 onSkipInWrite를 호출하고, 쓰기/스킵 건수 보정값을 RowCountContribution에 전달
+ * - Step 스킵 건수와 합해 skipLimit을 넘으면 SkipLimitExceededException으로 Step 실패 (Step 레벨 skip과 동일한 기준)
+ * - 위임 Writer는 청크 트랜잭션의 커넥션(DataSourceUtils)을 사용하는 JDBC Writer여야 함
+ */
+@Slf4j
+public class BisectingJdbcBatchItemWriter<T> implements ItemWriter<T> {
+
+    private final ItemWriter<T> delegate;
+    private final DataSource dataSource;
+    private final List<SkipListener<?, ? super T>> skipListeners = new ArrayList<>();
+    private long skipLimit = Long.MAX_VALUE;
+    private RowCountContribution rowCountContribution;
+
+    public BisectingJdbcBatchItemWriter(ItemWriter<T> delegate, DataSource dataSource) {
+        this.delegate = delegate;
+        this.dataSource = dataSource;
+    }
+
+    public void setSkipLimit(long skipLimit) {
+        this.skipLimit = skipLimit;
+    }
+
+    /**
+     * 스킵한 건수를 Step 쓰기/스킵 건수에 반영할 보정값, 지정하지 않으면 Step은 청크 전체를 쓰기 건수로 집계
+     */
+    public void setRowCountContribution(RowCountContribution rowCountContribution) {
+        this.rowCountContribution = rowCountContribution;
+    }
+
+    public void registerSkipListener(SkipListener<?, ? super T> skipListener) {
+        skipListeners.add(skipListener);
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            delegate.write(chunk); // 세이브포인트를 둘 트랜잭션이 없으면 Step 레벨 skip에 맡김
+            return;
+        }
+
+        List<Skipped<T>> skipped = new ArrayList<>();
+        // 청크 트랜잭션에 바인딩된 커넥션 (위임 Writer와 같은 커넥션)
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            write(connection, chunk.getItems(), skipped);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+
+        if (!skipped.isEmpty()) {
+            report(skipped);
+        }
+    }
+
+    private void write(Connection connection, List<? extends T> items, List<Skipped<T>> skipped) throws Exception {
+        bisect(connection, 0, items.size(),
+                (from, to) -> delegate.write(new Chunk<>(items.subList(from, to))),
+                (index, cause) -> {
+                    skipped.add(new Skipped<>(items.get(index), cause));
+                    log.warn("중복 키로 레코드 스킵 - {}", cause.getMostSpecificCause().getMessage());
+                });
+    }
+
+    /**
+     * [from, to) 구간을 세이브포인트를 두고 쓰고, 중복 키로 실패하면 되돌린 뒤 반씩 나누어 재시도
+     * 아이템 목록 대신 인덱스 구간을 다루므로 컬럼형 청크 Writer도 같은 방식으로 사용
+     */
+    static void bisect(Connection connection, int from, int to, RangeWriter writer, DuplicateHandler onDuplicate)
+            throws Exception {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            writer.write(from, to);
+            connection.releaseSavepoint(savepoint);
+        } catch (DuplicateKeyException e) {
+            connection.rollback(savepoint);
+            if (to - from == 1) {
+                onDuplicate.skip(from, e);
+                return;
+            }
+            int middle = from + (to - from) / 2;
+            bisect(connection, from, middle, writer, onDuplicate);
+            bisect(connection, middle, to, writer, onDuplicate);
+        }
+    }
+
+    /**
+     * Step 스킵 건수와 이번 청크에서 스킵한 건수의 합이 skipLimit을 넘으면 Step 실패 (Step 레벨 skip과 같은 기준)
+     */
+    static void checkSkipLimit(StepExecution stepExecution, long skipped, long skipLimit, Throwable cause) {
+        if (stepExecution != null && stepExecution.getSkipCount() + skipped > skipLimit) {
+            throw new SkipLimitExceededException(skipLimit, cause);
+        }
+    }
+
+    /**
+     * Step은 청크 전체를 쓰기 건수로 집계하므로, 스킵한 건수만큼 쓰기 건수에서 스킵 건수로 옮기는 보정값을 남김
+     * 스킵 리스너는 Step 레벨 skip과 같이 커밋 전 청크 트랜잭션 안에서 호출
+     */
+    private void report(List<Skipped<T>> skipped) {
+        StepContext context = StepSynchronizationManager.getContext();
+        StepExecution stepExecution = context != null ? context.getStepExecution() : null;
+        checkSkipLimit(stepExecution, skipped.size(), skipLimit, skipped.get(0).cause());
+        log.debug("청크 분할 재시도 완료 - 스킵: {}", skipped.size());
+
+        if (rowCountContribution != null) {
+            rowCountContribution.add(0, -skipped.size(), 0, skipped.size());
+        }
+        for (Skipped<T> skip : skipped) {
+            for (SkipListener<?, ? super T> listener : skipListeners) {
+                listener.onSkipInWrite(skip.item(), skip.cause());
+            }
+        }
+    }
+
+    private record Skipped<T>(T item, Throwable cause) {
+    }
+
+    /**
+     * 인덱스 구간 [from, to)를 한 번의 배치로 쓰기
+     */
+    @FunctionalInterface
+    interface RangeWriter {
+        void write(int from, int to) throws Exception;
+    }
+
+    /**
+     * 한 건만 남은 구간이 중복 키로 실패했을 때 호출
+     */
+    @FunctionalInterface
+    interface DuplicateHandler {
+        void skip(int index, DuplicateKeyException cause);
+    }
+}
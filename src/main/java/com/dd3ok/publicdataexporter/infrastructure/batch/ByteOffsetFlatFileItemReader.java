@@ -0,0 +1,261 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.Resource;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 커밋 시점의 바이트 오프셋을 ExecutionContext에 저장하는 라인 단위 Reader
+ *
+ * FlatFileItemReader는 재시작 시 저장된 read.count만큼 파일 처음부터 다시 읽고 토큰화하므로,
+ * 실패 지점이 뒤쪽일수록 재시작 비용이 커집니다.
+ * 이 Reader는 청크 커밋마다 다음 레코드의 시작 바이트 위치를 저장하고, 재시작 시 해당 위치로 바로 이동합니다.
+ *
+ * - 최초 실행 시 linesToSkip은 디코딩 없이 바이트 단위로 개행만 세어 건너뜀
+ * - 라인 번호도 오프셋과 함께 저장하여 재시작 후에도 파싱 오류의 라인 번호가 파일 기준으로 유지됨
+ * - 한 라인이 하나의 레코드 (FlatFileItemReader 기본 SimpleRecordSeparatorPolicy와 동일)
+ * - '#'으로 시작하는 라인은 주석으로 간주하여 건너뜀
+ * - EUC-KR/MS949는 ASCII 구간을 그대로 복사하는 Ms949LineDecoder로 디코딩
+ */
+@Slf4j
+public class ByteOffsetFlatFileItemReader<T> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    /**
+     * ExecutionContext 키 (Reader 이름 접두어 + byte.offset)
+     */
+    public static final String BYTE_OFFSET_KEY = "byte.offset";
+
+    /**
+     * ExecutionContext 키 (Reader 이름 접두어 + line.number), 바이트 오프셋 직전까지 읽은 라인 수
+     */
+    public static final String LINE_NUMBER_KEY = "line.number";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private Resource resource;
+    private Charset encoding;
+    private int linesToSkip = 0;
+    private LineMapper<T> lineMapper;
+    private Ms949LineDecoder ms949Decoder;
+
+    private InputStream inputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] lineBuffer = new byte[1024];
+
+    private long offset;
+    private long restoredOffset = -1;
+    private int restoredLineNumber;
+    private int lineNumber;
+
+    public void setResource(Resource resource) {
+        this.resource = resource;
+    }
+
+    public void setEncoding(Charset encoding) {
+        this.encoding = encoding;
+    }
+
+    public void setLinesToSkip(int linesToSkip) {
+        this.linesToSkip = linesToSkip;
+    }
+
+    public void setLineMapper(LineMapper<T> lineMapper) {
+        this.lineMapper = lineMapper;
+    }
+
+    /**
+     * 다음에 읽을 레코드의 시작 바이트 위치
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(BYTE_OFFSET_KEY);
+        restoredOffset = isSaveState() && executionContext.containsKey(key) ? executionContext.getLong(key) : -1;
+        // 라인 번호 저장 전의 ExecutionContext로 재시작하면 0부터 셈
+        restoredLineNumber = restoredOffset >= 0 ? executionContext.getInt(getExecutionContextKey(LINE_NUMBER_KEY), 0) : 0;
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (isSaveState()) {
+            executionContext.putLong(getExecutionContextKey(BYTE_OFFSET_KEY), offset);
+            executionContext.putInt(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
+        }
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        Assert.notNull(resource, "Resource must be set");
+        Assert.notNull(encoding, "Encoding must be set");
+        Assert.notNull(lineMapper, "LineMapper must be set");
+        ms949Decoder = Ms949LineDecoder.supports(encoding) ? new Ms949LineDecoder() : null;
+
+        position = 0;
+        limit = 0;
+        lineNumber = 0;
+
+        if (restoredOffset >= 0) {
+            // 재시작: 마지막 커밋 위치로 바로 이동
+            inputStream = openAt(restoredOffset);
+            offset = restoredOffset;
+            lineNumber = restoredLineNumber;
+            log.info("재시작 - 바이트 오프셋 {} (라인 {}) 부터 읽기 재개", restoredOffset, restoredLineNumber + 1);
+            return;
+        }
+
+        inputStream = openAt(0);
+        offset = 0;
+        for (int i = 0; i < linesToSkip; i++) {
+            if (!skipLine()) {
+                break;
+            }
+        }
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        // 바이트 오프셋으로 이미 이동한 경우 아이템을 다시 읽지 않음
+        if (restoredOffset < 0) {
+            super.jumpToItem(itemIndex);
+        }
+    }
+
+    @Override
+    protected T doRead() throws Exception {
+        while (true) {
+            int length = readLine();
+            if (length < 0) {
+                return null;
+            }
+            if (length > 0 && lineBuffer[0] == '#') {
+                continue;
+            }
+
+            String line = ms949Decoder != null
+                    ? ms949Decoder.decode(lineBuffer, 0, length)
+                    : new String(lineBuffer, 0, length, encoding);
+            try {
+                return lineMapper.mapLine(line, lineNumber);
+            } catch (Exception e) {
+                throw new FlatFileParseException("Parsing error at line: " + lineNumber
+                        + " in resource=[" + resource.getDescription() + "], input=[" + line + "]", e, line, lineNumber);
+            }
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (inputStream != null) {
+            inputStream.close();
+            inputStream = null;
+        }
+    }
+
+    private InputStream openAt(long startOffset) throws IOException {
+        if (resource.isFile()) {
+            FileChannel channel = FileChannel.open(resource.getFile().toPath(), StandardOpenOption.READ);
+            channel.position(startOffset);
+            return Channels.newInputStream(channel);
+        }
+        InputStream stream = resource.getInputStream();
+        stream.skipNBytes(startOffset);
+        return stream;
+    }
+
+    /**
+     * 다음 라인을 lineBuffer에 복사 (개행 문자 제외)
+     *
+     * @return 라인의 바이트 길이, 파일 끝이면 -1
+     */
+    private int readLine() throws IOException {
+        int length = 0;
+        boolean consumed = false;
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                if (!consumed) {
+                    return -1;
+                }
+                lineNumber++; // 개행 없이 끝나는 마지막 라인
+                return trimCarriageReturn(length);
+            }
+            consumed = true;
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int count = position - start;
+            length = append(length, start, count);
+            offset += count;
+
+            if (position < limit) {
+                position++; // '\n'
+                offset++;
+                lineNumber++;
+                return trimCarriageReturn(length);
+            }
+        }
+    }
+
+    private boolean skipLine() throws IOException {
+        boolean consumed = false;
+        while (true) {
+            if (position >= limit && !fill()) {
+                return consumed;
+            }
+            consumed = true;
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            offset += position - start;
+
+            if (position < limit) {
+                position++;
+                offset++;
+                lineNumber++;
+                return true;
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read = inputStream.read(buffer, 0, buffer.length);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private int append(int length, int start, int count) {
+        if (length + count > lineBuffer.length) {
+            lineBuffer = Arrays.copyOf(lineBuffer, Math.max(lineBuffer.length * 2, length + count));
+        }
+        System.arraycopy(buffer, start, lineBuffer, length, count);
+        return length + count;
+    }
+
+    private int trimCarriageReturn(int length) {
+        return length > 0 && lineBuffer[length - 1] == '\r' ? length - 1 : length;
+    }
+}
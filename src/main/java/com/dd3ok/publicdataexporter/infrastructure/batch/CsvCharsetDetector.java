@@ -0,0 +1,90 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 파일 앞부분을 샘플링하여 CSV 인코딩을 판별
+ * 공공데이터포털 파일은 배포 시기에 따라 EUC-KR(CP949)과 UTF-8(BOM 포함/미포함)이 섞여 있음
+ *
+ * - UTF-8 BOM이 있으면 UTF-8
+ * - BOM이 없으면 샘플 전체가 올바른 UTF-8 시퀀스인지 검사 (한글 CP949 바이트열은 UTF-8로 거의 성립하지 않음)
+ * - 그 외에는 MS949 (EUC-KR의 상위 집합, 확장 완성형 한글 포함)
+ */
+public final class CsvCharsetDetector {
+
+    /**
+     * EUC-KR의 상위 집합 (x-windows-949)
+     */
+    public static final Charset MS949 = Charset.forName("MS949");
+
+    private static final int SAMPLE_SIZE = 64 * 1024;
+
+    private CsvCharsetDetector() {
+    }
+
+    public static Charset detect(Resource resource) throws IOException {
+        byte[] sample;
+        try (InputStream inputStream = resource.getInputStream()) {
+            sample = inputStream.readNBytes(SAMPLE_SIZE);
+        }
+        return detect(sample, sample.length);
+    }
+
+    static Charset detect(byte[] sample, int length) {
+        if (length >= 3 && (sample[0] & 0xFF) == 0xEF && (sample[1] & 0xFF) == 0xBB && (sample[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        return isUtf8(sample, length) ? StandardCharsets.UTF_8 : MS949;
+    }
+
+    /**
+     * 올바른 UTF-8인지 검사 (ASCII만 있는 경우 포함), 샘플 끝에서 잘린 시퀀스는 허용
+     */
+    private static boolean isUtf8(byte[] bytes, int length) {
+        int i = 0;
+        while (i < length) {
+            int b = bytes[i] & 0xFF;
+            if (b < 0x80) {
+                i++;
+                continue;
+            }
+
+            int trailing;
+            int min;
+            if (b >= 0xC2 && b <= 0xDF) {
+                trailing = 1;
+                min = 0x80;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                trailing = 2;
+                min = 0x800;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                trailing = 3;
+                min = 0x10000;
+            } else {
+                return false;
+            }
+
+            if (i + trailing >= length) {
+                return true; // 샘플 경계에서 잘린 마지막 문자
+            }
+            int codePoint = b & (0x3F >> trailing);
+            for (int k = 1; k <= trailing; k++) {
+                int c = bytes[i + k] & 0xFF;
+                if ((c & 0xC0) != 0x80) {
+                    return false;
+                }
+                codePoint = (codePoint << 6) | (c & 0x3F);
+            }
+            if (codePoint < min || codePoint > 0x10FFFF || (codePoint >= 0xD800 && codePoint <= 0xDFFF)) {
+                return false;
+            }
+            i += trailing + 1;
+        }
+        return true;
+    }
+}
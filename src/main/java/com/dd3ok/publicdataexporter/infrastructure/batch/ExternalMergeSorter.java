@@ -0,0 +1,272 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * CSV 파일을 키 컬럼 기준으로 정렬하는 외부 병합 정렬
+ *
+ * - 라인을 디코딩하지 않고 바이트 그대로 다루며, 키 필드도 바이트 단위(부호 없는 비교)로 정렬
+ *   (관리번호는 ASCII이므로 EUC-KR/UTF-8 모두 사전순과 동일)
+ * - runBytes만큼 라인을 모아 정렬한 뒤 임시 디렉터리에 런 파일로 내려쓰고, 런들을 PriorityQueue로 k-way 병합
+ * - 런이 MAX_FAN_IN개를 넘으면 여러 단계로 나누어 병합하여 동시에 여는 파일 수를 제한
+ * - 어느 단계에서 실패하더라도 그때까지 만든 런 파일과 임시 결과 파일을 삭제
+ * - 헤더 라인은 정렬하지 않고 그대로 맨 앞에 둠, 라인 끝의 CR은 제거하고 LF로 기록
+ */
+@Slf4j
+public class ExternalMergeSorter {
+
+    private static final int MAX_FAN_IN = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Comparator<SortLine> KEY_ORDER = (a, b) -> Arrays.compareUnsigned(
+            a.bytes(), a.keyStart(), a.keyEnd(), b.bytes(), b.keyStart(), b.keyEnd());
+
+    private final Path tempDirectory;
+    private final long runBytes;
+    private final int fanIn;
+
+    /**
+     * @param tempDirectory 런 파일을 내려쓸 디렉터리
+     * @param runBytes 런 하나에 모을 라인 바이트 수 (메모리 사용 상한)
+     */
+    public ExternalMergeSorter(Path tempDirectory, long runBytes) {
+        this(tempDirectory, runBytes, MAX_FAN_IN);
+    }
+
+    /**
+     * @param fanIn 한 번에 병합할 런 수 (2 이상)
+     */
+    ExternalMergeSorter(Path tempDirectory, long runBytes, int fanIn) {
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("fanIn must be at least 2: " + fanIn);
+        }
+        this.tempDirectory = tempDirectory;
+        this.runBytes = runBytes;
+        this.fanIn = fanIn;
+    }
+
+    /**
+     * @param input 정렬할 CSV (첫 라인은 헤더)
+     * @param target 정렬 결과 파일
+     * @param keyColumn 키 컬럼 위치 (0부터)
+     * @return 헤더를 제외한 라인 수
+     */
+    public long sort(InputStream input, Path target, int keyColumn) throws IOException {
+        Files.createDirectories(tempDirectory);
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        LineInput lines = new LineInput(input);
+        byte[] header = lines.next();
+
+        List<Path> runs = new ArrayList<>();
+        List<Path> merged = new ArrayList<>();
+        Path temp = null;
+        long lineCount = 0;
+        try {
+            List<SortLine> buffer = new ArrayList<>();
+            long bufferedBytes = 0;
+            byte[] line;
+            while ((line = lines.next()) != null) {
+                buffer.add(SortLine.of(line, keyColumn));
+                bufferedBytes += line.length;
+                lineCount++;
+                if (bufferedBytes >= runBytes) {
+                    runs.add(writeRun(buffer));
+                    buffer.clear();
+                    bufferedBytes = 0;
+                }
+            }
+            if (!buffer.isEmpty() || runs.isEmpty()) {
+                runs.add(writeRun(buffer));
+            }
+            log.info("정렬 런 생성 완료 - 라인: {}, 런: {}", lineCount, runs.size());
+
+            int pass = 0;
+            while (runs.size() > fanIn) {
+                for (int from = 0; from < runs.size(); from += fanIn) {
+                    List<Path> group = runs.subList(from, Math.min(from + fanIn, runs.size()));
+                    Path run = Files.createTempFile(tempDirectory, "run-", ".csv");
+                    merged.add(run); // 병합 중 실패해도 finally에서 삭제
+                    merge(group, null, run, keyColumn);
+                    deleteAll(group);
+                }
+                runs = merged;
+                merged = new ArrayList<>();
+                log.debug("중간 병합 {}단계 완료 - 런: {}", ++pass, runs.size());
+            }
+
+            temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+            merge(runs, header, temp, keyColumn);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            deleteAll(runs);
+            deleteAll(merged);
+            if (temp != null) {
+                Files.deleteIfExists(temp); // 이동에 성공했으면 이미 없음
+            }
+        }
+        return lineCount;
+    }
+
+    private Path writeRun(List<SortLine> lines) throws IOException {
+        lines.sort(KEY_ORDER);
+        Path run = Files.createTempFile(tempDirectory, "run-", ".csv");
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(run), BUFFER_SIZE)) {
+            for (SortLine line : lines) {
+                output.write(line.bytes());
+                output.write('\n');
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(run);
+            throw e;
+        }
+        return run;
+    }
+
+    /**
+     * 정렬된 런들을 k-way 병합, 키가 같으면 앞선 런의 라인을 먼저 기록 (안정 정렬)
+     */
+    void merge(List<Path> runs, byte[] header, Path target, int keyColumn) throws IOException {
+        List<LineInput> inputs = new ArrayList<>(runs.size());
+        PriorityQueue<RunHead> heads = new PriorityQueue<>(Math.max(1, runs.size()),
+                Comparator.comparing(RunHead::line, KEY_ORDER).thenComparingInt(RunHead::run));
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(target), BUFFER_SIZE)) {
+            for (int run = 0; run < runs.size(); run++) {
+                LineInput input = new LineInput(Files.newInputStream(runs.get(run)));
+                inputs.add(input);
+                byte[] line = input.next();
+                if (line != null) {
+                    heads.add(new RunHead(SortLine.of(line, keyColumn), run));
+                }
+            }
+
+            if (header != null) {
+                output.write(header);
+                output.write('\n');
+            }
+            RunHead head;
+            while ((head = heads.poll()) != null) {
+                output.write(head.line().bytes());
+                output.write('\n');
+                byte[] line = inputs.get(head.run()).next();
+                if (line != null) {
+                    heads.add(new RunHead(SortLine.of(line, keyColumn), head.run()));
+                }
+            }
+        } finally {
+            for (LineInput input : inputs) {
+                input.close();
+            }
+        }
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 라인 바이트와 키 필드 구간 (따옴표 제외)
+     */
+    record SortLine(byte[] bytes, int keyStart, int keyEnd) {
+
+        static SortLine of(byte[] line, int keyColumn) {
+            int column = 0;
+            int start = 0;
+            boolean quoted = false;
+            for (int i = 0; i <= line.length; i++) {
+                if (i < line.length && line[i] == '"') {
+                    quoted = !quoted;
+                    continue;
+                }
+                if (i == line.length || (line[i] == ',' && !quoted)) {
+                    if (column == keyColumn) {
+                        int end = i;
+                        if (end - start >= 2 && line[start] == '"' && line[end - 1] == '"') {
+                            start++;
+                            end--;
+                        }
+                        return new SortLine(line, start, end);
+                    }
+                    column++;
+                    start = i + 1;
+                }
+            }
+            return new SortLine(line, 0, 0); // 키 컬럼이 없는 라인은 맨 앞으로
+        }
+    }
+
+    private record RunHead(SortLine line, int run) {
+    }
+
+    /**
+     * LF 기준 라인 단위 바이트 읽기 (CR 제거)
+     */
+    private static final class LineInput implements AutoCloseable {
+
+        private final InputStream input;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int position;
+        private int limit;
+
+        LineInput(InputStream input) {
+            this.input = input;
+        }
+
+        byte[] next() throws IOException {
+            byte[] line = null;
+            int length = 0;
+            while (true) {
+                if (position >= limit) {
+                    int read = input.read(buffer, 0, buffer.length);
+                    if (read <= 0) {
+                        return line == null ? null : trim(line, length);
+                    }
+                    position = 0;
+                    limit = read;
+                }
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                int count = position - start;
+                if (line == null) {
+                    line = new byte[Math.max(count, 256)];
+                } else if (length + count > line.length) {
+                    line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+                }
+                System.arraycopy(buffer, start, line, length, count);
+                length += count;
+                if (position < limit) {
+                    position++; // '\n'
+                    return trim(line, length);
+                }
+            }
+        }
+
+        private static byte[] trim(byte[] line, int length) {
+            if (length > 0 && line[length - 1] == '\r') {
+                length--;
+            }
+            return line.length == length ? line : Arrays.copyOf(line, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
@@ -6,8 +6,7 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -17,11 +16,19 @@ import java.util.Map;
 public class LineRangePartitioner implements Partitioner {
 
     private Resource resource;
+    private long minLinesPerPartition = 1;
 
     public void setResource(Resource resource) {
         this.resource = resource;
     }
 
+    /**
+     * 파티션당 최소 라인 수: 작은 파일은 gridSize보다 적은 파티션으로 분할
+     */
+    public void setMinLinesPerPartition(long minLinesPerPartition) {
+        this.minLinesPerPartition = minLinesPerPartition;
+    }
+
     @Override
     public Map<String, ExecutionContext> partition(int gridSize) {
         long totalLines = 0;
@@ -34,6 +41,9 @@ public class LineRangePartitioner implements Partitioner {
         }
 
         Assert.isTrue(totalLines > 0, "File must not be empty.");
+
+        // 파티션당 최소 라인 수를 넘지 않도록 파티션 수 조정
+        gridSize = (int) Math.max(1, Math.min(gridSize, totalLines / Math.max(1, minLinesPerPartition)));
         
         long linesPerPartition = totalLines / gridSize;
         log.info("Total lines: {}, Partitions: {}, Lines per partition: {}", totalLines, gridSize, linesPerPartition);
@@ -63,13 +73,24 @@ public class LineRangePartitioner implements Partitioner {
         return partitions;
     }
 
+    /**
+     * 디코딩 없이 바이트 단위로 개행('\n')을 세어 라인 수 계산 (인코딩과 무관, Reader의 라인 구분과 동일)
+     */
     private long countLines(Resource resource) throws Exception {
         long count = 0;
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream()))) {
-            while (reader.readLine() != null) {
-                count++;
+        byte[] buffer = new byte[64 * 1024];
+        byte last = '\n';
+        try (InputStream inputStream = resource.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '\n') {
+                        count++;
+                    }
+                }
+                last = buffer[read - 1];
             }
         }
-        return count;
+        return last == '\n' ? count : count + 1; // 개행 없이 끝나는 마지막 라인
     }
 }
@@ -0,0 +1,81 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryFile;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.util.Assert;
+
+import java.nio.file.Path;
+
+/**
+ * 바이너리 행 파일의 블록 범위를 읽어 Restaurant를 바로 반환하는 Reader (재생 모드)
+ *
+ * - CSV 디코딩/토큰화/타입 변환 없이 매핑된 블록에서 행을 디코딩하므로 Processor를 거치지 않음
+ * - 커밋마다 읽은 건수를 저장하고, 재시작 시 블록 인덱스의 행 수로 블록을 건너뛴 뒤 블록 안에서는 행 길이만큼 건너뜀
+ */
+public class RestaurantBinaryItemReader extends AbstractItemCountingItemStreamItemReader<Restaurant> {
+
+    public static final String READER_NAME = "restaurantBinaryReader";
+
+    private final Path file;
+    private final int startBlock;
+    private final int endBlock;
+
+    private RestaurantBinaryFile binaryFile;
+    private RestaurantBinaryFile.Block block;
+    private int nextBlock;
+
+    /**
+     * @param startBlock 읽기 시작할 블록 번호 (0부터)
+     * @param endBlock 읽기 종료할 블록 번호 (포함)
+     */
+    public RestaurantBinaryItemReader(Path file, int startBlock, int endBlock) {
+        setName(READER_NAME);
+        this.file = file;
+        this.startBlock = startBlock;
+        this.endBlock = endBlock;
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        binaryFile = RestaurantBinaryFile.open(file);
+        Assert.isTrue(0 <= startBlock && endBlock < binaryFile.blockCount(),
+                "Block range out of bounds: " + startBlock + " ~ " + endBlock + " of " + binaryFile.blockCount());
+        nextBlock = startBlock;
+        block = null;
+    }
+
+    @Override
+    protected Restaurant doRead() throws Exception {
+        while (block == null || !block.hasNext()) {
+            if (nextBlock > endBlock) {
+                return null;
+            }
+            block = binaryFile.block(nextBlock++);
+        }
+        return block.next();
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        int remaining = itemIndex;
+        while (nextBlock <= endBlock && binaryFile.rowCount(nextBlock) <= remaining) {
+            remaining -= binaryFile.rowCount(nextBlock++);
+        }
+        if (remaining > 0 && nextBlock <= endBlock) {
+            block = binaryFile.block(nextBlock++);
+            for (int row = 0; row < remaining; row++) {
+                block.skip();
+            }
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        block = null;
+        if (binaryFile != null) {
+            binaryFile.close();
+            binaryFile = null;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+/**
+ * 청크 하나(최대 capacity 행)를 컬럼 단위 배열(struct-of-arrays)로 보관하는 컬럼형 청크
+ *
+ * - 문자열 컬럼은 토큰 문자열을 그대로 참조
+ * - 날짜는 epoch day(long), 일시는 epoch micros(long), 면적/좌표는 double, 인원/금액은 int로 저장
+ * - 좌표는 DECIMAL 컬럼에 행 모드와 같은 값을 적재하도록 원문 토큰도 함께 보관 (좌표 변환에는 double 사용)
+ * - 기본형 컬럼의 null 여부는 컬럼별 비트맵으로 표시
+ * - Processor가 걸러낸 행과 Writer가 중복으로 건너뛴 행도 비트맵으로 표시 (행 객체를 만들지 않음)
+ *
+ * 행마다 RestaurantCsvDto, Restaurant, 박싱된 숫자/날짜 객체를 만들지 않으므로,
+ * 파티션 수 x 청크 크기만큼의 객체가 힙에 동시에 머무르지 않습니다.
+ */
+public final class RestaurantColumnChunk {
+
+    // 문자열 컬럼
+    public static final int MANAGEMENT_NUMBER = 0;
+    public static final int LOCATION_PHONE_NUMBER = 1;
+    public static final int LOCATION_ZIP_CODE = 2;
+    public static final int FULL_ADDRESS = 3;
+    public static final int ROAD_NAME_ADDRESS = 4;
+    public static final int ROAD_NAME_ZIP_CODE = 5;
+    public static final int BUSINESS_NAME = 6;
+    public static final int DATA_UPDATE_TYPE = 7;
+    public static final int INDUSTRY_TYPE = 8;
+    public static final int OPEN_AUTH_CODE = 9;
+    public static final int SURROUNDING_AREA_TYPE = 10;
+    public static final int GRADE_TYPE = 11;
+    public static final int WATER_FACILITY_TYPE = 12;
+    public static final int BUILDING_OWNERSHIP_TYPE = 13;
+    public static final int MULTI_USE_BUSINESS_YN = 14;
+    public static final int TRADITIONAL_BUSINESS_NUMBER = 15;
+    public static final int TRADITIONAL_BUSINESS_MAIN_FOOD = 16;
+    public static final int STRING_COLUMNS = 17;
+
+    // 기본형 컬럼 (LATITUDE, LONGITUDE를 제외한 컬럼은 Reader가 원문을 채우고 Processor가 변환)
+    public static final int LICENSING_DATE = 0;
+    public static final int CLOSE_DATE = 1;
+    public static final int LAST_MODIFIED_AT = 2;
+    public static final int DATA_UPDATED_AT = 3;
+    public static final int LOCATION_AREA = 4;
+    public static final int TOTAL_FACILITY_SIZE = 5;
+    public static final int COORDINATE_X = 6;
+    public static final int COORDINATE_Y = 7;
+    public static final int MALE_WORKER_COUNT = 8;
+    public static final int FEMALE_WORKER_COUNT = 9;
+    public static final int MONTHLY_RENT = 10;
+    public static final int RAW_COLUMNS = 11;
+    public static final int LATITUDE = 11;
+    public static final int LONGITUDE = 12;
+    public static final int PRIMITIVE_COLUMNS = 13;
+
+    private final int capacity;
+    private int size;
+
+    private final String[][] strings;
+    private String[][] raw;
+    private final String[] geohash;
+    private final String[] coordinateXText;
+    private final String[] coordinateYText;
+
+    final long[] licensingDate;   // epoch day
+    final long[] closeDate;       // epoch day
+    final long[] lastModifiedAt;  // epoch micros
+    final long[] dataUpdatedAt;   // epoch micros
+    final double[] locationArea;
+    final double[] totalFacilitySize;
+    final double[] coordinateX;
+    final double[] coordinateY;
+    final double[] latitude;
+    final double[] longitude;
+    final int[] maleWorkerCount;
+    final int[] femaleWorkerCount;
+    final int[] monthlyRent;
+
+    private final long[][] nulls;
+    private final long[] filtered;
+    private final long[] skipped;
+
+    public RestaurantColumnChunk(int capacity) {
+        this.capacity = capacity;
+        int words = (capacity + 63) >>> 6;
+        strings = new String[STRING_COLUMNS][capacity];
+        raw = new String[RAW_COLUMNS][capacity];
+        geohash = new String[capacity];
+        coordinateXText = new String[capacity];
+        coordinateYText = new String[capacity];
+        licensingDate = new long[capacity];
+        closeDate = new long[capacity];
+        lastModifiedAt = new long[capacity];
+        dataUpdatedAt = new long[capacity];
+        locationArea = new double[capacity];
+        totalFacilitySize = new double[capacity];
+        coordinateX = new double[capacity];
+        coordinateY = new double[capacity];
+        latitude = new double[capacity];
+        longitude = new double[capacity];
+        maleWorkerCount = new int[capacity];
+        femaleWorkerCount = new int[capacity];
+        monthlyRent = new int[capacity];
+        nulls = new long[PRIMITIVE_COLUMNS][words];
+        filtered = new long[words];
+        skipped = new long[words];
+        // 좌표 변환 전에는 위치 없음
+        for (int row = 0; row < capacity; row++) {
+            setNull(LATITUDE, row);
+            setNull(LONGITUDE, row);
+        }
+    }
+
+    /**
+     * 행 추가 (Reader 전용), 추가된 행 번호 반환
+     */
+    public int addRow() {
+        if (isFull()) {
+            throw new IllegalStateException("Column chunk is full: " + capacity);
+        }
+        return size++;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 청크에 담긴 행 수 (걸러진 행 포함)
+     */
+    public int size() {
+        return size;
+    }
+
+    public String getString(int column, int row) {
+        return strings[column][row];
+    }
+
+    public void setString(int column, int row, String value) {
+        strings[column][row] = value;
+    }
+
+    /**
+     * 변환 전 원문 (Processor 변환 후에는 null)
+     */
+    public String getRaw(int column, int row) {
+        return raw != null ? raw[column][row] : null;
+    }
+
+    public void setRaw(int column, int row, String value) {
+        raw[column][row] = value;
+    }
+
+    /**
+     * 변환이 끝난 원문 배열을 해제하여 쓰기 단계 동안 원문 문자열이 힙에 남지 않도록 함
+     */
+    public void releaseRaw() {
+        raw = null;
+    }
+
+    public String getGeohash(int row) {
+        return geohash[row];
+    }
+
+    public void setGeohash(int row, String value) {
+        geohash[row] = value;
+    }
+
+    public boolean isNull(int column, int row) {
+        return get(nulls[column], row);
+    }
+
+    public void setNull(int column, int row) {
+        set(nulls[column], row, true);
+    }
+
+    public void setNotNull(int column, int row) {
+        set(nulls[column], row, false);
+    }
+
+    public long getLicensingDate(int row) {
+        return licensingDate[row];
+    }
+
+    public long getCloseDate(int row) {
+        return closeDate[row];
+    }
+
+    public long getLastModifiedAt(int row) {
+        return lastModifiedAt[row];
+    }
+
+    public long getDataUpdatedAt(int row) {
+        return dataUpdatedAt[row];
+    }
+
+    public double getLocationArea(int row) {
+        return locationArea[row];
+    }
+
+    public double getTotalFacilitySize(int row) {
+        return totalFacilitySize[row];
+    }
+
+    public double getCoordinateX(int row) {
+        return coordinateX[row];
+    }
+
+    public double getCoordinateY(int row) {
+        return coordinateY[row];
+    }
+
+    /**
+     * 좌표 원문 토큰 (원문 해제 후에도 유지)
+     * @param column COORDINATE_X 또는 COORDINATE_Y
+     */
+    public String getCoordinateText(int column, int row) {
+        return column == COORDINATE_X ? coordinateXText[row] : coordinateYText[row];
+    }
+
+    public void setCoordinateText(int column, int row, String value) {
+        if (column == COORDINATE_X) {
+            coordinateXText[row] = value;
+        } else {
+            coordinateYText[row] = value;
+        }
+    }
+
+    public double getLatitude(int row) {
+        return latitude[row];
+    }
+
+    public double getLongitude(int row) {
+        return longitude[row];
+    }
+
+    public int getMaleWorkerCount(int row) {
+        return maleWorkerCount[row];
+    }
+
+    public int getFemaleWorkerCount(int row) {
+        return femaleWorkerCount[row];
+    }
+
+    public int getMonthlyRent(int row) {
+        return monthlyRent[row];
+    }
+
+    /**
+     * WGS84 위치 설정 (좌표 변환 단계)
+     */
+    public void locate(int row, double lat, double lon, String hash) {
+        latitude[row] = lat;
+        longitude[row] = lon;
+        geohash[row] = hash;
+        setNotNull(LATITUDE, row);
+        setNotNull(LONGITUDE, row);
+    }
+
+    /**
+     * Processor가 걸러낸 행 (관리번호 없음, 숫자 변환 실패)
+     */
+    public boolean isFiltered(int row) {
+        return get(filtered, row);
+    }
+
+    public void filter(int row) {
+        set(filtered, row, true);
+    }
+
+    /**
+     * Writer가 중복 키로 건너뛴 행
+     */
+    public boolean isSkipped(int row) {
+        return get(skipped, row);
+    }
+
+    public void skip(int row) {
+        set(skipped, row, true);
+    }
+
+    /**
+     * 적재 대상 행인지 (걸러지거나 건너뛰지 않은 행)
+     */
+    public boolean isWritable(int row) {
+        return !isFiltered(row) && !isSkipped(row);
+    }
+
+    public int filteredCount() {
+        return count(filtered);
+    }
+
+    public int skippedCount() {
+        return count(skipped);
+    }
+
+    private static boolean get(long[] bitmap, int row) {
+        return (bitmap[row >>> 6] & (1L << row)) != 0;
+    }
+
+    private static void set(long[] bitmap, int row, boolean value) {
+        if (value) {
+            bitmap[row >>> 6] |= 1L << row;
+        } else {
+            bitmap[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    private static int count(long[] bitmap) {
+        int count = 0;
+        for (long word : bitmap) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+}
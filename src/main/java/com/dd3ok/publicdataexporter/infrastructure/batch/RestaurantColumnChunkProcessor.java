@@ -0,0 +1,230 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+
+/**
+ * 컬럼형 청크의 원문 컬럼을 기본형 배열로 제자리 변환하는 Processor
+ * 변환 규칙은 RestaurantItemProcessor와 동일하여 두 모드가 같은 행을 적재
+ * - 관리번호가 없거나 숫자 변환에 실패한 행은 걸러냄 (좌표는 행 모드와 같이 BigDecimal로 검증)
+ * - 올바른 날짜/일시는 LocalDate/LocalDateTime을 만들지 않고 문자 단위로 직접 파싱
+ * - 직접 파싱할 수 없는 값(2월 30일, 24시 등)은 행 모드의 변환 규칙(RestaurantItemProcessor)에 맡겨
+ *   보정되거나 null이 되는 결과까지 동일하게 맞춤
+ */
+@Slf4j
+@Component
+public class RestaurantColumnChunkProcessor implements ItemProcessor<RestaurantColumnChunk, RestaurantColumnChunk> {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    @Override
+    public RestaurantColumnChunk process(@NonNull final RestaurantColumnChunk chunk) {
+        for (int row = 0; row < chunk.size(); row++) {
+            String managementNumber = chunk.getString(MANAGEMENT_NUMBER, row);
+            if (isBlank(managementNumber)) {
+                log.warn("Skipping record due to empty management number. business name: {}", chunk.getString(BUSINESS_NAME, row));
+                chunk.filter(row);
+                continue;
+            }
+            try {
+                parseDate(chunk, LICENSING_DATE, chunk.licensingDate, row);
+                parseDate(chunk, CLOSE_DATE, chunk.closeDate, row);
+                parseDateTime(chunk, LAST_MODIFIED_AT, chunk.lastModifiedAt, row);
+                parseDateTime(chunk, DATA_UPDATED_AT, chunk.dataUpdatedAt, row);
+                parseDouble(chunk, LOCATION_AREA, chunk.locationArea, row);
+                parseDouble(chunk, TOTAL_FACILITY_SIZE, chunk.totalFacilitySize, row);
+                parseCoordinate(chunk, COORDINATE_X, chunk.coordinateX, row);
+                parseCoordinate(chunk, COORDINATE_Y, chunk.coordinateY, row);
+                parseInt(chunk, MALE_WORKER_COUNT, chunk.maleWorkerCount, row);
+                parseInt(chunk, FEMALE_WORKER_COUNT, chunk.femaleWorkerCount, row);
+                parseInt(chunk, MONTHLY_RENT, chunk.monthlyRent, row);
+            } catch (NumberFormatException e) {
+                log.error("Error processing row with managementNumber: {}. Error: {}. Skipping record.",
+                        managementNumber, e.getMessage());
+                chunk.filter(row);
+            }
+        }
+        chunk.releaseRaw();
+        return chunk;
+    }
+
+    private void parseDate(RestaurantColumnChunk chunk, int column, long[] target, int row) {
+        String value = chunk.getRaw(column, row);
+        long epochDay = isBlank(value) ? Long.MIN_VALUE : parseEpochDay(value);
+        if (epochDay == Long.MIN_VALUE) {
+            LocalDate date = RestaurantItemProcessor.parseLocalDate(value);
+            if (date == null) {
+                chunk.setNull(column, row);
+                return;
+            }
+            epochDay = date.toEpochDay();
+        }
+        target[row] = epochDay;
+        chunk.setNotNull(column, row);
+    }
+
+    private void parseDateTime(RestaurantColumnChunk chunk, int column, long[] target, int row) {
+        String value = chunk.getRaw(column, row);
+        long epochMicros = isBlank(value) ? Long.MIN_VALUE : parseEpochMicros(value);
+        if (epochMicros == Long.MIN_VALUE) {
+            LocalDateTime dateTime = RestaurantItemProcessor.parseLocalDateTime(value);
+            if (dateTime == null) {
+                chunk.setNull(column, row);
+                return;
+            }
+            epochMicros = dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1000;
+        }
+        target[row] = epochMicros;
+        chunk.setNotNull(column, row);
+    }
+
+    private void parseDouble(RestaurantColumnChunk chunk, int column, double[] target, int row) {
+        String value = chunk.getRaw(column, row);
+        if (isBlank(value)) {
+            chunk.setNull(column, row);
+            return;
+        }
+        target[row] = Double.parseDouble(value);
+        chunk.setNotNull(column, row);
+    }
+
+    /**
+     * 행 모드와 같이 BigDecimal로 변환되는 값만 허용하고, 원문 토큰은 DECIMAL 컬럼 바인딩용으로 보관
+     */
+    private void parseCoordinate(RestaurantColumnChunk chunk, int column, double[] target, int row) {
+        String value = chunk.getRaw(column, row);
+        if (isBlank(value)) {
+            chunk.setNull(column, row);
+            return;
+        }
+        target[row] = new BigDecimal(value).doubleValue();
+        chunk.setCoordinateText(column, row, value);
+        chunk.setNotNull(column, row);
+    }
+
+    private void parseInt(RestaurantColumnChunk chunk, int column, int[] target, int row) {
+        String value = chunk.getRaw(column, row);
+        if (isBlank(value)) {
+            chunk.setNull(column, row);
+            return;
+        }
+        target[row] = Integer.parseInt(value);
+        chunk.setNotNull(column, row);
+    }
+
+    /**
+     * yyyy-MM-dd -> epoch day, 형식이 맞지 않거나 존재하지 않는 날짜면 Long.MIN_VALUE
+     */
+    static long parseEpochDay(String value) {
+        return value.length() == 10 ? parseEpochDay(value, 0) : Long.MIN_VALUE;
+    }
+
+    private static long parseEpochDay(String value, int offset) {
+        if (value.charAt(offset + 4) != '-' || value.charAt(offset + 7) != '-') {
+            return Long.MIN_VALUE;
+        }
+        int year = digits(value, offset, offset + 4);
+        int month = digits(value, offset + 5, offset + 7);
+        int day = digits(value, offset + 8, offset + 10);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return Long.MIN_VALUE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    /**
+     * yyyy-MM-dd HH:mm:ss[.fraction] -> epoch micros (시간대 없는 로컬 일시), 형식이 맞지 않으면 Long.MIN_VALUE
+     */
+    static long parseEpochMicros(String value) {
+        int length = value.length();
+        if (length < 19 || value.charAt(10) != ' ' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return Long.MIN_VALUE;
+        }
+        long epochDay = parseEpochDay(value, 0);
+        int hour = digits(value, 11, 13);
+        int minute = digits(value, 14, 16);
+        int second = digits(value, 17, 19);
+        if (epochDay == Long.MIN_VALUE || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return Long.MIN_VALUE;
+        }
+
+        // 소수점 이하 1~9자리 (마이크로초 아래는 버림)
+        long micros = 0;
+        if (length > 19) {
+            int fractionDigits = length - 20;
+            if (value.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                return Long.MIN_VALUE;
+            }
+            for (int i = 0; i < 6; i++) {
+                int digit = i < fractionDigits ? value.charAt(20 + i) - '0' : 0;
+                if (digit < 0 || digit > 9) {
+                    return Long.MIN_VALUE;
+                }
+                micros = micros * 10 + digit;
+            }
+            for (int i = 26; i < length; i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    return Long.MIN_VALUE;
+                }
+            }
+        }
+
+        long seconds = epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+        return seconds * MICROS_PER_SECOND + micros;
+    }
+
+    private static int digits(String value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 그레고리력 날짜 -> 1970-01-01 기준 일 수 (LocalDate.toEpochDay와 동일한 결과)
+     */
+    private static long epochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static boolean isBlank(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,187 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.transform.IncorrectTokenCountException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+
+/**
+ * 라인을 청크 크기만큼 모아 하나의 RestaurantColumnChunk로 반환하는 Reader
+ * - 라인 단위 읽기와 바이트 오프셋 체크포인트는 ByteOffsetFlatFileItemReader에 위임
+ * - Step의 청크 크기는 1 (컬럼형 청크 하나가 한 트랜잭션), 커밋 시 위임 Reader의 오프셋이 저장됨
+ * - 컬럼 위치는 생성 시 한 번만 계산하여 행마다 헤더명으로 찾지 않음
+ * - 라인을 DelimitedLineTokenizer와 같은 규칙(쉼표 구분, 큰따옴표 인용, 앞뒤 공백 제거)으로 직접 나누어
+ *   청크 배열에 바로 담으므로 행마다 토큰 리스트/FieldSet을 만들지 않고, 청크에 담지 않는 컬럼은 문자열로 잘라내지 않음
+ *
+ * 라인 문자열과 청크에 담는 컬럼의 토큰 문자열은 행마다 만들어지며, 날짜/숫자 컬럼의 원문은 Processor가 변환할 때까지 보관
+ * (바이트 버퍼에서 기본형 배열로 바로 파싱하지는 않음)
+ */
+public class RestaurantColumnChunkReader implements ItemStreamReader<RestaurantColumnChunk> {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+    private static final int IGNORED = -1;
+
+    private final ByteOffsetFlatFileItemReader<RestaurantColumnChunk> delegate;
+    private final int chunkSize;
+
+    /**
+     * 라인의 토큰 위치 -> 청크 컬럼 (문자열 컬럼은 그대로, 원문 컬럼은 STRING_COLUMNS + 컬럼, 담지 않는 컬럼은 IGNORED)
+     */
+    private final int[] targets;
+    private RestaurantColumnChunk chunk;
+
+    /**
+     * @param delegate 라인 Reader, LineMapper는 이 Reader가 설정 (라인을 현재 청크의 새 행으로 토큰화)
+     */
+    public RestaurantColumnChunkReader(ByteOffsetFlatFileItemReader<RestaurantColumnChunk> delegate,
+                                       String[] columnNames, int chunkSize) {
+        this.delegate = delegate;
+        this.chunkSize = chunkSize;
+        delegate.setLineMapper((line, lineNumber) -> tokenize(line));
+
+        int[] stringIndexes = new int[STRING_COLUMNS];
+        int[] rawIndexes = new int[RAW_COLUMNS];
+
+        List<String> names = Arrays.asList(columnNames);
+        stringIndexes[MANAGEMENT_NUMBER] = indexOf(names, "관리번호");
+        stringIndexes[LOCATION_PHONE_NUMBER] = indexOf(names, "소재지전화");
+        stringIndexes[LOCATION_ZIP_CODE] = indexOf(names, "소재지우편번호");
+        stringIndexes[FULL_ADDRESS] = indexOf(names, "소재지전체주소");
+        stringIndexes[ROAD_NAME_ADDRESS] = indexOf(names, "도로명전체주소");
+        stringIndexes[ROAD_NAME_ZIP_CODE] = indexOf(names, "도로명우편번호");
+        stringIndexes[BUSINESS_NAME] = indexOf(names, "사업장명");
+        stringIndexes[DATA_UPDATE_TYPE] = indexOf(names, "데이터갱신구분");
+        stringIndexes[INDUSTRY_TYPE] = indexOf(names, "업태구분명");
+        stringIndexes[OPEN_AUTH_CODE] = indexOf(names, "개방자치단체코드");
+        stringIndexes[SURROUNDING_AREA_TYPE] = indexOf(names, "영업장주변구분명");
+        stringIndexes[GRADE_TYPE] = indexOf(names, "등급구분명");
+        stringIndexes[WATER_FACILITY_TYPE] = indexOf(names, "급수시설구분명");
+        stringIndexes[BUILDING_OWNERSHIP_TYPE] = indexOf(names, "건물소유구분명");
+        stringIndexes[MULTI_USE_BUSINESS_YN] = indexOf(names, "다중이용업소여부");
+        stringIndexes[TRADITIONAL_BUSINESS_NUMBER] = indexOf(names, "전통업소지정번호");
+        stringIndexes[TRADITIONAL_BUSINESS_MAIN_FOOD] = indexOf(names, "전통업소주된음식");
+
+        rawIndexes[LICENSING_DATE] = indexOf(names, "인허가일자");
+        rawIndexes[CLOSE_DATE] = indexOf(names, "폐업일자");
+        rawIndexes[LAST_MODIFIED_AT] = indexOf(names, "최종수정시점");
+        rawIndexes[DATA_UPDATED_AT] = indexOf(names, "데이터갱신일자");
+        rawIndexes[LOCATION_AREA] = indexOf(names, "소재지면적");
+        rawIndexes[TOTAL_FACILITY_SIZE] = indexOf(names, "시설총규모");
+        rawIndexes[COORDINATE_X] = indexOf(names, "좌표정보(X)");
+        rawIndexes[COORDINATE_Y] = indexOf(names, "좌표정보(Y)");
+        rawIndexes[MALE_WORKER_COUNT] = indexOf(names, "남성종사자수");
+        rawIndexes[FEMALE_WORKER_COUNT] = indexOf(names, "여성종사자수");
+        rawIndexes[MONTHLY_RENT] = indexOf(names, "월세액");
+
+        targets = new int[columnNames.length];
+        Arrays.fill(targets, IGNORED);
+        for (int column = 0; column < STRING_COLUMNS; column++) {
+            targets[stringIndexes[column]] = column;
+        }
+        for (int column = 0; column < RAW_COLUMNS; column++) {
+            targets[rawIndexes[column]] = STRING_COLUMNS + column;
+        }
+    }
+
+    @Override
+    public RestaurantColumnChunk read() throws Exception {
+        chunk = null;
+        while ((chunk == null || !chunk.isFull()) && delegate.read() != null) {
+            // 위임 Reader가 읽은 라인을 tokenize()로 현재 청크에 담음
+        }
+        return chunk;
+    }
+
+    /**
+     * 라인 하나를 현재 청크의 새 행으로 토큰화
+     * 토큰 수가 컬럼 수와 다르면 DelimitedLineTokenizer와 같이 IncorrectTokenCountException (위임 Reader가 라인 번호와 함께 감쌈)
+     */
+    private RestaurantColumnChunk tokenize(String line) {
+        if (chunk == null) {
+            chunk = new RestaurantColumnChunk(chunkSize);
+        }
+        int row = chunk.addRow();
+        int token = 0;
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == QUOTE) {
+                quoted = !quoted;
+            } else if (c == DELIMITER && !quoted) {
+                store(row, token++, line, start, i);
+                start = i + 1;
+            }
+        }
+        store(row, token++, line, start, line.length());
+        if (token != targets.length) {
+            throw new IncorrectTokenCountException(targets.length, token, line);
+        }
+        return chunk;
+    }
+
+    private void store(int row, int token, String line, int from, int to) {
+        int target = token < targets.length ? targets[token] : IGNORED;
+        if (target == IGNORED) {
+            return;
+        }
+        String value = value(line, from, to);
+        if (target < STRING_COLUMNS) {
+            chunk.setString(target, row, value);
+        } else {
+            chunk.setRaw(target - STRING_COLUMNS, row, value);
+        }
+    }
+
+    /**
+     * line[from, to) 토큰의 값: 앞뒤 공백을 제거하고, 큰따옴표로 감싼 값은 따옴표를 벗기고 ""를 "로 바꿈
+     */
+    static String value(String line, int from, int to) {
+        while (from < to && line.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && line.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (to > from && line.charAt(from) == QUOTE && line.charAt(to - 1) == QUOTE) {
+            if (to - from == 1) {
+                return "";
+            }
+            String value = line.substring(from + 1, to - 1);
+            if (value.indexOf(QUOTE) >= 0) {
+                value = value.replace("\"\"", "\"");
+            }
+            return value.trim();
+        }
+        return line.substring(from, to);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        delegate.update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        delegate.close();
+    }
+
+    private static int indexOf(List<String> names, String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column not found in dataset columns: " + name);
+        }
+        return index;
+    }
+}
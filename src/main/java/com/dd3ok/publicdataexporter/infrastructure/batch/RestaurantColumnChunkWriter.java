@@ -0,0 +1,342 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.geo.Epsg5174Transformer;
+import com.dd3ok.publicdataexporter.domain.geo.GeoHash;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+
+/**
+ * 컬럼형 청크를 기본형 배열에서 바로 PreparedStatement에 바인딩하여 배치 INSERT하는 Writer
+ *
+ * - Geo 옵션 활성화 시 청크의 좌표 배열을 그대로 변환기에 넘겨 위경도/Geohash 계산 후 위치 테이블에도 적재
+ * - 컬럼형 청크 하나가 Spring Batch 아이템 하나이므로 skip 대신 Writer가 직접 중복 키를 처리:
+ *   배치 INSERT가 중복 키로 실패하면 행 모드(BisectingJdbcBatchItemWriter)와 같이 세이브포인트로 되돌린 뒤
+ *   행 구간을 반씩 나누어 재시도하고 중복 행만 건너뜀, Step 스킵 건수와 합해 skipLimit을 넘으면 Step 실패
+ * - 읽기/쓰기/필터/스킵 건수는 행 단위 보정값을 RowCountContribution에 남겨 커밋 직전 StepExecution에 반영
+ * - 집계 수집기를 지정하면 INSERT에 성공한 행을 대시보드 집계에 반영 (importer.summary.enabled)
+ */
+@Slf4j
+public class RestaurantColumnChunkWriter implements ItemWriter<RestaurantColumnChunk> {
+
+    private static final String INSERT_SQL =
+            """
+            INSERT INTO %s (%s
+                management_number, licensing_date, close_date, location_phone_number,
+                location_area, location_zip_code, full_address, road_name_address, road_name_zip_code,
+                business_name, last_modified_at, data_update_type, data_updated_at, industry_type,
+                coordinate_x, coordinate_y, open_auth_code, male_worker_count, female_worker_count,
+                surrounding_area_type, grade_type, water_facility_type, building_ownership_type,
+                monthly_rent, multi_use_business_yn, total_facility_size, traditional_business_number,
+                traditional_business_main_food, latitude, longitude, geohash
+            ) VALUES (%s ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_LOCATION_SQL =
+            """
+            INSERT INTO %s (management_number, location)
+            VALUES (?, ST_GeomFromText(?, 4326, 'axis-order=long-lat'))
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final String insertLocationSql;
+    private final Epsg5174Transformer transformer;
+    private final int geohashPrecision;
+    private final RestaurantSummaryCollector summaryCollector;
+    private long skipLimit = Long.MAX_VALUE;
+    private RowCountContribution rowCountContribution;
+
+    /**
+     * @param loadDate 이력 테이블 적재일, null이면 일반 적재 (이력 적재 시 위치 테이블은 사용하지 않음)
+     * @param transformer null이면 좌표 변환 및 위치 테이블 적재를 하지 않음
+     * @param summaryCollector null이면 집계하지 않음
+     */
+    public RestaurantColumnChunkWriter(DataSource dataSource, String targetTable, LocalDate loadDate,
+                                       Epsg5174Transformer transformer, int geohashPrecision,
+                                       RestaurantSummaryCollector summaryCollector) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.insertSql = RestaurantJdbcItemWriter.insertSql(INSERT_SQL, targetTable, loadDate);
+        this.insertLocationSql = loadDate == null ? INSERT_LOCATION_SQL.formatted(targetTable + "_location") : null;
+        this.transformer = transformer;
+        this.geohashPrecision = geohashPrecision;
+        this.summaryCollector = summaryCollector;
+    }
+
+    public void setSkipLimit(long skipLimit) {
+        this.skipLimit = skipLimit;
+    }
+
+    /**
+     * 행 단위 건수를 Step 건수에 반영할 보정값, 지정하지 않으면 Step은 컬럼형 청크 하나를 한 건으로 집계
+     */
+    public void setRowCountContribution(RowCountContribution rowCountContribution) {
+        this.rowCountContribution = rowCountContribution;
+    }
+
+    @Override
+    public void write(Chunk<? extends RestaurantColumnChunk> items) throws Exception {
+        long skipped = 0;
+        for (RestaurantColumnChunk chunk : items) {
+            if (transformer != null) {
+                locate(chunk);
+            }
+            int[] rows = rows(chunk);
+            DuplicateKeyException duplicate = insert(chunk, rows);
+            if (duplicate != null) {
+                skipped += chunk.skippedCount();
+                StepContext context = StepSynchronizationManager.getContext();
+                BisectingJdbcBatchItemWriter.checkSkipLimit(
+                        context != null ? context.getStepExecution() : null, skipped, skipLimit, duplicate);
+            }
+            if (transformer != null && insertLocationSql != null) {
+                insertLocations(chunk);
+            }
+            if (summaryCollector != null) {
+                summarize(chunk);
+            }
+            reportCounts(chunk);
+        }
+    }
+
+    /**
+     * 청크 전체 좌표를 한 번에 변환 (좌표가 없는 행은 NaN)
+     */
+    private void locate(RestaurantColumnChunk chunk) {
+        int size = chunk.size();
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int row = 0; row < size; row++) {
+            x[row] = chunk.isNull(COORDINATE_X, row) ? Double.NaN : chunk.coordinateX[row];
+            y[row] = chunk.isNull(COORDINATE_Y, row) ? Double.NaN : chunk.coordinateY[row];
+        }
+        double[] lat = new double[size];
+        double[] lon = new double[size];
+        transformer.transform(x, y, lat, lon, size);
+        for (int row = 0; row < size; row++) {
+            if (!Double.isNaN(lat[row])) {
+                chunk.locate(row, lat[row], lon[row], GeoHash.encode(lat[row], lon[row], geohashPrecision));
+            }
+        }
+    }
+
+    /**
+     * @return 중복 키로 스킵한 행이 있으면 첫 번째 중복 키 예외, 없으면 null
+     */
+    private DuplicateKeyException insert(RestaurantColumnChunk chunk, int[] rows) throws Exception {
+        if (rows.length == 0) {
+            return null;
+        }
+        DuplicateKeyException[] first = new DuplicateKeyException[1];
+        // 청크 트랜잭션에 바인딩된 커넥션 (JdbcTemplate과 같은 커넥션)
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            BisectingJdbcBatchItemWriter.bisect(connection, 0, rows.length,
+                    (from, to) -> jdbcTemplate.batchUpdate(insertSql, setter(chunk, rows, from, to)),
+                    (index, cause) -> {
+                        int row = rows[index];
+                        chunk.skip(row);
+                        if (first[0] == null) {
+                            first[0] = cause;
+                        }
+                        log.warn("중복 키로 레코드 스킵 - managementNumber: {}", chunk.getString(MANAGEMENT_NUMBER, row));
+                    });
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+        return first[0];
+    }
+
+    private void insertLocations(RestaurantColumnChunk chunk) {
+        int count = 0;
+        int[] located = new int[chunk.size()];
+        for (int row = 0; row < chunk.size(); row++) {
+            if (chunk.isWritable(row) && !chunk.isNull(LATITUDE, row)) {
+                located[count++] = row;
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        int size = count;
+        jdbcTemplate.batchUpdate(insertLocationSql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                int row = located[i];
+                ps.setString(1, chunk.getString(MANAGEMENT_NUMBER, row));
+                ps.setString(2, "POINT(" + chunk.getLongitude(row) + " " + chunk.getLatitude(row) + ")");
+            }
+
+            @Override
+            public int getBatchSize() {
+                return size;
+            }
+        });
+    }
+
+    /**
+     * 필터/스킵되지 않은 (INSERT에 성공한) 행만 집계
+     */
+    private void summarize(RestaurantColumnChunk chunk) {
+        for (int row = 0; row < chunk.size(); row++) {
+            if (chunk.isWritable(row)) {
+                summaryCollector.add(
+                        chunk.getString(OPEN_AUTH_CODE, row),
+                        chunk.getString(INDUSTRY_TYPE, row),
+                        chunk.isNull(LICENSING_DATE, row)
+                                ? RestaurantSummaryCollector.UNKNOWN_YEAR
+                                : LocalDate.ofEpochDay(chunk.licensingDate[row]).getYear(),
+                        !chunk.isNull(CLOSE_DATE, row));
+            }
+        }
+    }
+
+    /**
+     * rows[from, to) 구간의 행을 바인딩하는 배치 Setter
+     */
+    private static BatchPreparedStatementSetter setter(RestaurantColumnChunk chunk, int[] rows, int from, int to) {
+        return new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, chunk, rows[from + i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return to - from;
+            }
+        };
+    }
+
+    /**
+     * 한 행을 INSERT_SQL 파라미터 순서대로 바인딩
+     */
+    private static void bind(PreparedStatement ps, RestaurantColumnChunk chunk, int row) throws SQLException {
+        ps.setString(1, chunk.getString(MANAGEMENT_NUMBER, row));
+        setDate(ps, 2, chunk, LICENSING_DATE, chunk.licensingDate, row);
+        setDate(ps, 3, chunk, CLOSE_DATE, chunk.closeDate, row);
+        ps.setString(4, chunk.getString(LOCATION_PHONE_NUMBER, row));
+        setDouble(ps, 5, chunk, LOCATION_AREA, chunk.locationArea, row);
+        ps.setString(6, chunk.getString(LOCATION_ZIP_CODE, row));
+        ps.setString(7, chunk.getString(FULL_ADDRESS, row));
+        ps.setString(8, chunk.getString(ROAD_NAME_ADDRESS, row));
+        ps.setString(9, chunk.getString(ROAD_NAME_ZIP_CODE, row));
+        ps.setString(10, chunk.getString(BUSINESS_NAME, row));
+        setDateTime(ps, 11, chunk, LAST_MODIFIED_AT, chunk.lastModifiedAt, row);
+        ps.setString(12, chunk.getString(DATA_UPDATE_TYPE, row));
+        setDateTime(ps, 13, chunk, DATA_UPDATED_AT, chunk.dataUpdatedAt, row);
+        ps.setString(14, chunk.getString(INDUSTRY_TYPE, row));
+        setDecimal(ps, 15, chunk, COORDINATE_X, row);
+        setDecimal(ps, 16, chunk, COORDINATE_Y, row);
+        ps.setString(17, chunk.getString(OPEN_AUTH_CODE, row));
+        setInt(ps, 18, chunk, MALE_WORKER_COUNT, chunk.maleWorkerCount, row);
+        setInt(ps, 19, chunk, FEMALE_WORKER_COUNT, chunk.femaleWorkerCount, row);
+        ps.setString(20, chunk.getString(SURROUNDING_AREA_TYPE, row));
+        ps.setString(21, chunk.getString(GRADE_TYPE, row));
+        ps.setString(22, chunk.getString(WATER_FACILITY_TYPE, row));
+        ps.setString(23, chunk.getString(BUILDING_OWNERSHIP_TYPE, row));
+        setInt(ps, 24, chunk, MONTHLY_RENT, chunk.monthlyRent, row);
+        ps.setString(25, chunk.getString(MULTI_USE_BUSINESS_YN, row));
+        setDouble(ps, 26, chunk, TOTAL_FACILITY_SIZE, chunk.totalFacilitySize, row);
+        ps.setString(27, chunk.getString(TRADITIONAL_BUSINESS_NUMBER, row));
+        ps.setString(28, chunk.getString(TRADITIONAL_BUSINESS_MAIN_FOOD, row));
+        setDouble(ps, 29, chunk, LATITUDE, chunk.latitude, row);
+        setDouble(ps, 30, chunk, LONGITUDE, chunk.longitude, row);
+        ps.setString(31, chunk.getGeohash(row));
+    }
+
+    // 날짜/일시는 드라이버가 java.time 타입으로만 받으므로 바인딩 시점에만 생성 (청크 동안 힙에 머무르지 않음)
+    private static void setDate(PreparedStatement ps, int index, RestaurantColumnChunk chunk, int column,
+                                long[] values, int row) throws SQLException {
+        if (chunk.isNull(column, row)) {
+            ps.setNull(index, Types.DATE);
+        } else {
+            ps.setObject(index, LocalDate.ofEpochDay(values[row]));
+        }
+    }
+
+    private static void setDateTime(PreparedStatement ps, int index, RestaurantColumnChunk chunk, int column,
+                                    long[] values, int row) throws SQLException {
+        if (chunk.isNull(column, row)) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            long micros = values[row];
+            ps.setObject(index, LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1000, ZoneOffset.UTC));
+        }
+    }
+
+    private static void setDouble(PreparedStatement ps, int index, RestaurantColumnChunk chunk, int column,
+                                  double[] values, int row) throws SQLException {
+        if (chunk.isNull(column, row)) {
+            ps.setNull(index, Types.DOUBLE);
+        } else {
+            ps.setDouble(index, values[row]);
+        }
+    }
+
+    // DECIMAL 좌표 컬럼은 행 모드와 같이 원문 토큰의 BigDecimal로 바인딩 (double 반올림 차이 방지)
+    private static void setDecimal(PreparedStatement ps, int index, RestaurantColumnChunk chunk, int column,
+                                   int row) throws SQLException {
+        if (chunk.isNull(column, row)) {
+            ps.setNull(index, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(index, new BigDecimal(chunk.getCoordinateText(column, row)));
+        }
+    }
+
+    private static void setInt(PreparedStatement ps, int index, RestaurantColumnChunk chunk, int column,
+                               int[] values, int row) throws SQLException {
+        if (chunk.isNull(column, row)) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, values[row]);
+        }
+    }
+
+    private static int[] rows(RestaurantColumnChunk chunk) {
+        int count = 0;
+        int[] rows = new int[chunk.size()];
+        for (int row = 0; row < chunk.size(); row++) {
+            if (!chunk.isFiltered(row)) {
+                rows[count++] = row;
+            }
+        }
+        return count == rows.length ? rows : Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Spring Batch는 컬럼형 청크 하나를 아이템 하나로 집계하므로, 행 단위 건수와의 차이를 보정값으로 남김
+     */
+    private void reportCounts(RestaurantColumnChunk chunk) {
+        if (rowCountContribution == null) {
+            return;
+        }
+        int filtered = chunk.filteredCount();
+        int skipped = chunk.skippedCount();
+        int written = chunk.size() - filtered - skipped;
+        rowCountContribution.add(chunk.size() - 1, written - 1, filtered, skipped);
+    }
+}
@@ -0,0 +1,81 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryWriter;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * CSV 파일을 한 번 파싱하여 바이너리 행 파일로 컴파일하는 Tasklet (컴파일 모드 Job의 Step, 적재 없음)
+ *
+ * - 적재와 같은 Reader/Processor로 변환한 Restaurant를 기록하므로, 재생 시 Processor 결과와 같은 행이 Writer로 전달
+ * - Processor가 걸러낸 행(관리번호 없음, 변환 실패)은 기록하지 않음
+ * - 키 정렬 모드이면 정렬 결과 파일을 컴파일하여 재생 시에도 파티션마다 겹치지 않는 키 구간을 적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantCompileTasklet implements Tasklet {
+
+    private final DatasetRegistry datasetRegistry;
+    private final RestaurantCsvItemReader restaurantCsvItemReader;
+    private final RestaurantItemProcessor restaurantItemProcessor;
+    private final ImporterProperties properties;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        ExecutionContext jobExecutionContext = stepExecution.getJobExecution().getExecutionContext();
+
+        ImporterProperties.Dataset dataset = datasetRegistry.get((String) jobParameters.get("dataset"));
+        String inputFile = jobExecutionContext.containsKey(RestaurantSortTasklet.SORTED_INPUT_FILE_KEY)
+                ? jobExecutionContext.getString(RestaurantSortTasklet.SORTED_INPUT_FILE_KEY)
+                : (String) jobParameters.get("inputFile");
+        Resource resource = datasetRegistry.getResource(dataset, inputFile);
+        ImporterProperties.Binary binary = properties.getBinary();
+        Path target = binary.resolveFile(dataset.getName());
+
+        // 헤더 다음 라인부터 파일 끝까지
+        ByteOffsetFlatFileItemReader<RestaurantCsvDto> reader =
+                restaurantCsvItemReader.createReader(dataset, resource, 1L, (long) Integer.MAX_VALUE);
+        long read = 0;
+        long written;
+        int blocks;
+        reader.open(new ExecutionContext());
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(target, binary.getBlockBytes())) {
+            RestaurantCsvDto dto;
+            while ((dto = reader.read()) != null) {
+                read++;
+                Restaurant restaurant = restaurantItemProcessor.process(dto);
+                if (restaurant != null) {
+                    writer.write(restaurant);
+                }
+            }
+            written = writer.finish();
+            blocks = writer.blockCount();
+        } finally {
+            reader.close();
+        }
+        log.info("바이너리 컴파일 완료 - {}: {}건 중 {}건, 블록 {}개 -> {}", dataset.getName(), read, written, blocks, target);
+
+        stepExecution.getExecutionContext().putLong("binary.rows", written);
+        stepExecution.getExecutionContext().putLong("binary.filtered", read - written);
+        stepExecution.getExecutionContext().putInt("binary.blocks", blocks);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -1,33 +1,44 @@
 package com.dd3ok.publicdataexporter.infrastructure.batch;
 
 import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.core.configuration.annotation.StepScope;
-import org.springframework.batch.item.file.FlatFileItemReader;
-import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
 /**
- * 일반음식점 현황 CSV 파일을 읽어 RestaurantCsvDto 객체로 변환하는 Reader
+ * LOCALDATA 표준 레이아웃의 CSV 파일(일반음식점, 휴게음식점, 제과점영업 등)을 읽어 RestaurantCsvDto 객체로 변환하는 Reader
  * - 멀티스레드 파티셔닝을 지원하여 대용량 파일 처리 최적화
- * - EUC-KR 인코딩으로 한글 데이터 처리
+ * - 파일 인코딩(UTF-8, EUC-KR/MS949)을 앞부분 샘플로 자동 판별 (데이터셋 encoding 설정으로 고정 가능)
  * - CSV 파일의 특정 라인 범위만 읽도록 구성 가능
+ * - 바이트 오프셋 체크포인트로 실패한 파티션을 즉시 재시작
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RestaurantCsvItemReader {
     
+    /**
+     * Reader 이름, ExecutionContext 키 접두어로 사용
+     */
+    public static final String READER_NAME = "restaurantCsvReader";
+
     private final RestaurantFieldSetMapper fieldSetMapper;
     
     /**
      * CSV 파일의 헤더 정의 (총 47개 컬럼)
-     * 공공데이터포털 표준 형식에 따른 컬럼 순서
+     * 공공데이터포털 표준 형식에 따른 컬럼 순서, 데이터셋에 columns가 지정되지 않은 경우 사용
      */
-    private static final String[] CSV_HEADERS = {
+    static final String[] CSV_HEADERS = {
         "번호","개방서비스명","개방서비스아이디","개방자치단체코드","관리번호",
         "인허가일자","인허가취소일자","영업상태구분코드","영업상태명","상세영업상태코드","상세영업상태명",
         "폐업일자","휴업시작일자","휴업종료일자","재개업일자",
@@ -43,28 +54,90 @@ public class RestaurantCsvItemReader {
     
     /**
      * 파티션별로 CSV 파일의 특정 범위를 읽는 Reader 생성
+     * 청크 커밋마다 바이트 오프셋을 저장하여, 재시작 시 파일을 처음부터 다시 읽지 않고 바로 이어서 읽음
      * 
+     * @param dataset 읽을 데이터셋 정의 (컬럼 순서)
+     * @param resource 입력 파일
      * @param startLine 읽기 시작할 라인 번호 (0부터 시작)
      * @param endLine 읽기 종료할 라인 번호 (포함)
-     * @return 설정된 범위의 데이터를 읽는 FlatFileItemReader
+     * @return 설정된 범위의 데이터를 읽는 ByteOffsetFlatFileItemReader
      */
-    @StepScope
-    public FlatFileItemReader<RestaurantCsvDto> createReader(
-            @Value("#{stepExecutionContext['startLine']}") Long startLine,
-            @Value("#{stepExecutionContext['endLine']}") Long endLine) {
+    public ByteOffsetFlatFileItemReader<RestaurantCsvDto> createReader(
+            ImporterProperties.Dataset dataset, Resource resource, Long startLine, Long endLine) {
         
-        log.info("CSV Reader 생성 - 처리 범위: {} ~ {} 라인", startLine, endLine);
-        
-        return new FlatFileItemReaderBuilder<RestaurantCsvDto>()
-                .name("restaurantCsvReader")
-                .resource(new ClassPathResource("data/restaurant_data.csv"))
-                .linesToSkip(startLine.intValue()) // 파티션 시작 라인까지 스킵
-                .maxItemCount((int) (endLine - startLine + 1)) // 파티션 크기만큼 제한
-                .encoding("EUC-KR") // 공공데이터 표준 인코딩
-                .delimited()
-                .quoteCharacter('"') // CSV 필드 따옴표 처리
-                .names(CSV_HEADERS)
-                .fieldSetMapper(fieldSetMapper)
-                .build();
+        log.info("CSV Reader 생성 - 데이터셋: {}, 처리 범위: {} ~ {} 라인", dataset.getName(), startLine, endLine);
+
+        DefaultLineMapper<RestaurantCsvDto> lineMapper = new DefaultLineMapper<>();
+        lineMapper.setLineTokenizer(createTokenizer(dataset));
+        lineMapper.setFieldSetMapper(fieldSetMapper);
+        return createLineReader(lineMapper, dataset, resource, startLine, endLine);
+    }
+
+    /**
+     * 파티션별로 CSV 파일의 특정 범위를 청크 크기만큼 모아 컬럼형 청크로 읽는 Reader 생성
+     * 라인을 DTO로 매핑하지 않고 토큰을 바로 컬럼 배열에 담음
+     *
+     * @param chunkSize 컬럼형 청크 하나에 담을 행 수
+     * @return 컬럼형 청크 Reader
+     */
+    public RestaurantColumnChunkReader createColumnChunkReader(
+            ImporterProperties.Dataset dataset, Resource resource, Long startLine, Long endLine, int chunkSize) {
+
+        log.info("CSV 컬럼형 Reader 생성 - 데이터셋: {}, 처리 범위: {} ~ {} 라인", dataset.getName(), startLine, endLine);
+
+        return new RestaurantColumnChunkReader(
+                createLineReader(null, dataset, resource, startLine, endLine), columnNames(dataset), chunkSize);
+    }
+
+    /**
+     * 데이터셋 컬럼 중 지정한 헤더명의 위치 (0부터)
+     */
+    public int columnIndex(ImporterProperties.Dataset dataset, String columnName) {
+        int index = Arrays.asList(columnNames(dataset)).indexOf(columnName);
+        if (index < 0) {
+            throw new IllegalArgumentException("Column not found in dataset columns: " + columnName);
+        }
+        return index;
+    }
+
+    private DelimitedLineTokenizer createTokenizer(ImporterProperties.Dataset dataset) {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setQuoteCharacter('"'); // CSV 필드 따옴표 처리
+        tokenizer.setNames(columnNames(dataset));
+        return tokenizer;
+    }
+
+    private String[] columnNames(ImporterProperties.Dataset dataset) {
+        return dataset.getColumns().isEmpty()
+                ? CSV_HEADERS
+                : dataset.getColumns().toArray(String[]::new);
+    }
+
+    private <T> ByteOffsetFlatFileItemReader<T> createLineReader(
+            LineMapper<T> lineMapper, ImporterProperties.Dataset dataset, Resource resource, Long startLine, Long endLine) {
+        ByteOffsetFlatFileItemReader<T> reader = new ByteOffsetFlatFileItemReader<>();
+        reader.setName(READER_NAME);
+        reader.setResource(resource);
+        reader.setLinesToSkip(startLine.intValue()); // 파티션 시작 라인까지 스킵
+        reader.setMaxItemCount((int) (endLine - startLine + 1)); // 파티션 크기만큼 제한
+        reader.setEncoding(resolveEncoding(dataset, resource));
+        reader.setLineMapper(lineMapper);
+        return reader;
+    }
+
+    /**
+     * 데이터셋 encoding 설정이 auto이면 파일 앞부분을 샘플링하여 판별, 아니면 지정한 인코딩 사용
+     */
+    private Charset resolveEncoding(ImporterProperties.Dataset dataset, Resource resource) {
+        if (!ImporterProperties.Dataset.AUTO_ENCODING.equalsIgnoreCase(dataset.getEncoding())) {
+            return Charset.forName(dataset.getEncoding());
+        }
+        try {
+            Charset detected = CsvCharsetDetector.detect(resource);
+            log.debug("인코딩 감지 - 데이터셋: {}, 파일: {}, 인코딩: {}", dataset.getName(), resource.getFilename(), detected);
+            return detected;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to detect encoding: " + resource, e);
+        }
     }
 }
@@ -0,0 +1,83 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.geo.Epsg5174Transformer;
+import com.dd3ok.publicdataexporter.domain.geo.GeoHash;
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크 전체의 EPSG:5174 좌표를 WGS84 위경도/Geohash로 변환한 뒤 저장하는 Writer 데코레이터
+ * - ItemProcessor는 아이템 단위로 호출되므로, 청크 단위 일괄 변환을 위해 Writer 앞단에서 변환 단계를 수행
+ * - 좌표를 primitive double 배열로 모아 한 번의 루프로 투영 변환 (아이템별 객체 생성 없음)
+ * - 위치가 있는 레코드는 위치 테이블({targetTable}_location)에 POINT(SRID 4326)로 함께 적재하여 SPATIAL 인덱스 조회 지원
+ * - 위치 테이블이 null이면(이력 적재) 위경도/Geohash만 채우고 위치 테이블 적재는 생략
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RestaurantGeoItemWriter implements ItemWriter<Restaurant> {
+
+    private static final String INSERT_LOCATION_SQL =
+            """
+            INSERT INTO %s (management_number, location)
+            VALUES (:managementNumber, ST_GeomFromText(:wkt, 4326, 'axis-order=long-lat'))
+            """;
+
+    private final ItemWriter<Restaurant> delegate;
+    private final String locationTable;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Epsg5174Transformer transformer;
+    private final int geohashPrecision;
+
+    @Override
+    public void write(Chunk<? extends Restaurant> chunk) throws Exception {
+        List<? extends Restaurant> items = chunk.getItems();
+        int size = items.size();
+
+        // 1. 좌표를 primitive 배열로 수집 (좌표가 없으면 NaN)
+        double[] x = new double[size];
+        double[] y = new double[size];
+        for (int i = 0; i < size; i++) {
+            Restaurant restaurant = items.get(i);
+            x[i] = toDouble(restaurant.getCoordinateX());
+            y[i] = toDouble(restaurant.getCoordinateY());
+        }
+
+        // 2. 청크 단위 일괄 변환
+        double[] lat = new double[size];
+        double[] lon = new double[size];
+        transformer.transform(x, y, lat, lon, size);
+
+        List<SqlParameterSource> locations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(lat[i])) {
+                continue;
+            }
+            Restaurant restaurant = items.get(i);
+            restaurant.locate(lat[i], lon[i], GeoHash.encode(lat[i], lon[i], geohashPrecision));
+            locations.add(new MapSqlParameterSource()
+                    .addValue("managementNumber", restaurant.getManagementNumber())
+                    .addValue("wkt", "POINT(" + lon[i] + " " + lat[i] + ")"));
+        }
+
+        // 3. 본 테이블 저장 후 위치 테이블 저장 (동일 트랜잭션)
+        delegate.write(chunk);
+        if (locationTable != null && !locations.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LOCATION_SQL.formatted(locationTable), locations.toArray(SqlParameterSource[]::new));
+        }
+        log.debug("Geo 변환 완료 - 청크 크기: {}, 위치 적재: {}", size, locations.size());
+    }
+
+    private double toDouble(BigDecimal value) {
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+}
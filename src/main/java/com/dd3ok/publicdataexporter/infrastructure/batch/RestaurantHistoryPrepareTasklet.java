@@ -0,0 +1,40 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.history.RestaurantHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 적재 전 이력 테이블의 적재일 파티션을 준비하는 Tasklet (이력 모드 Job의 첫 Step)
+ * 적재일을 Job ExecutionContext(history.loadDate)에 저장하여 Writer가 사용
+ * (launchTime은 식별 파라미터가 아닐 수 있으므로, 다른 날 재시작해도 준비한 파티션에 이어서 적재)
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantHistoryPrepareTasklet implements Tasklet {
+
+    public static final String LOAD_DATE_KEY = "history.loadDate";
+
+    private final RestaurantHistoryService historyService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        Object dataset = jobParameters.get("dataset");
+        LocalDate loadDate = RestaurantHistoryService.loadDate(jobParameters.get("launchTime"));
+        String partition = historyService.preparePartition(dataset != null ? dataset.toString() : null, loadDate);
+
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        stepExecution.getJobExecution().getExecutionContext().putString(LOAD_DATE_KEY, loadDate.toString());
+        stepExecution.getExecutionContext().putString("history.partition", partition);
+        return RepeatStatus.FINISHED;
+    }
+}
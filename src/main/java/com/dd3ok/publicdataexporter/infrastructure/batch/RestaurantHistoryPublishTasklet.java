@@ -0,0 +1,47 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.history.RestaurantHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 적재 완료 후 스테이징 테이블을 적재일 파티션과 교체하고, 현재 뷰를 최신 적재일로 교체하고,
+ * 보관 기간이 지난 파티션을 삭제하는 Tasklet
+ *
+ * 첫 반복에서 교체만 하고 교체 여부(history.exchanged)를 Step ExecutionContext에 기록한 뒤 CONTINUABLE을 반환하므로,
+ * 교체된 이전 행을 삭제하기 전에 기록이 커밋됨 (삭제 전에 중단 후 재시작해도 이전 행을 다시 교체하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantHistoryPublishTasklet implements Tasklet {
+
+    static final String EXCHANGED_KEY = "history.exchanged";
+
+    private final RestaurantHistoryService historyService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Object dataset = chunkContext.getStepContext().getJobParameters().get("dataset");
+        String datasetName = dataset != null ? dataset.toString() : null;
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        if (!executionContext.containsKey(EXCHANGED_KEY)) {
+            String loadDate = chunkContext.getStepContext().getStepExecution().getJobExecution().getExecutionContext()
+                    .getString(RestaurantHistoryPrepareTasklet.LOAD_DATE_KEY);
+            executionContext.put(EXCHANGED_KEY, historyService.exchange(datasetName, LocalDate.parse(loadDate)));
+            return RepeatStatus.CONTINUABLE; // 교체 기록을 커밋한 뒤 게시
+        }
+
+        List<String> dropped = historyService.publish(datasetName);
+        executionContext.putInt("history.dropped", dropped.size());
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -80,7 +80,8 @@ public class RestaurantItemProcessor implements ItemProcessor<RestaurantCsvDto,
         }
     }
 
-    private LocalDate parseLocalDate(String dateStr) {
+    // 컬럼형 Processor(RestaurantColumnChunkProcessor)도 같은 결과를 내도록 날짜/일시 변환 규칙을 공유
+    static LocalDate parseLocalDate(String dateStr) {
         if (!StringUtils.hasText(dateStr)) return null;
         try {
             return LocalDate.parse(dateStr, DATE_FORMATTER);
@@ -90,7 +91,7 @@ public class RestaurantItemProcessor implements ItemProcessor<RestaurantCsvDto,
         }
     }
 
-    private LocalDateTime parseLocalDateTime(String dateTimeStr) {
+    static LocalDateTime parseLocalDateTime(String dateTimeStr) {
         if (!StringUtils.hasText(dateTimeStr)) return null;
         try {
             // .S 패턴은 밀리초가 없는 경우도 파싱 가능
@@ -1,20 +1,28 @@
 package com.dd3ok.publicdataexporter.infrastructure.batch;
 
+import com.dd3ok.publicdataexporter.domain.geo.Epsg5174Transformer;
 import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.database.BeanPropertyItemSqlParameterSourceProvider;
 import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
+import java.time.LocalDate;
 
 /**
  * Restaurant 도메인 객체를 데이터베이스에 배치 INSERT하는 Writer
  * - JdbcBatchItemWriter를 사용하여 배치 성능 최적화
- * - 중복 키 오류는 Step 레벨에서 처리 (skip 설정)
+ * - 중복 키 오류는 청크를 반씩 나누어 재시도하는 BisectingJdbcBatchItemWriter가 해당 행만 스킵
  * - Named Parameter를 사용하여 SQL 인젝션 방지
+ * - importer.geo.enabled 설정 시 좌표 변환 단계(RestaurantGeoItemWriter)를 앞단에 연결
+ * - 적재일을 지정하면 이력 테이블의 load_date 컬럼에 상수로 적재 (importer.history.enabled)
+ * - 집계 수집기를 지정하면 INSERT에 성공한 행을 대시보드 집계에 반영 (importer.summary.enabled)
  */
 @Slf4j
 @Component
@@ -22,39 +30,90 @@ import javax.sql.DataSource;
 public class RestaurantJdbcItemWriter {
 
     private final DataSource dataSource;
+    private final ImporterProperties properties;
 
     private static final String INSERT_SQL =
             """
-            INSERT INTO restaurant (
+            INSERT INTO %s (%s
                 management_number, licensing_date, close_date, location_phone_number,
                 location_area, location_zip_code, full_address, road_name_address, road_name_zip_code,
                 business_name, last_modified_at, data_update_type, data_updated_at, industry_type,
                 coordinate_x, coordinate_y, open_auth_code, male_worker_count, female_worker_count,
                 surrounding_area_type, grade_type, water_facility_type, building_ownership_type,
                 monthly_rent, multi_use_business_yn, total_facility_size, traditional_business_number,
-                traditional_business_main_food
-            ) VALUES (
+                traditional_business_main_food, latitude, longitude, geohash
+            ) VALUES (%s
                 :managementNumber, :licensingDate, :closeDate, :locationPhoneNumber,
                 :locationArea, :locationZipCode, :fullAddress, :roadNameAddress, :roadNameZipCode,
                 :businessName, :lastModifiedAt, :dataUpdateType, :dataUpdatedAt, :industryType,
                 :coordinateX, :coordinateY, :openAuthCode, :maleWorkerCount, :femaleWorkerCount,
                 :surroundingAreaType, :gradeType, :waterFacilityType, :buildingOwnershipType,
                 :monthlyRent, :multiUseBusinessYn, :totalFacilitySize, :traditionalBusinessNumber,
-                :traditionalBusinessMainFood
+                :traditionalBusinessMainFood, :latitude, :longitude, :geohash
             )
             """;
 
     /**
      * 배치 INSERT용 JdbcBatchItemWriter 생성
-     * @return 설정된 JdbcBatchItemWriter 인스턴스
+     * @param targetTable 적재 테이블 (Geo 옵션 활성화 시 위치 테이블은 {targetTable}_location)
+     * @param loadDate 이력 테이블 적재일, null이면 일반 적재 (이력 적재 시 위치 테이블은 사용하지 않음)
+     * @param summaryCollector 파티션 집계 수집기, null이면 집계하지 않음
+     * @return 설정된 JdbcBatchItemWriter 인스턴스 (Geo 옵션 활성화 시 좌표 변환 Writer로 감싼 인스턴스)를
+     *         중복 키 분할 재시도 Writer로 감싼 인스턴스 (위치 테이블 적재까지 같은 세이브포인트 구간)
      */
-    public ItemWriter<Restaurant> createWriter() {
+    public BisectingJdbcBatchItemWriter<Restaurant> createWriter(String targetTable, LocalDate loadDate,
+                                                          RestaurantSummaryCollector summaryCollector) {
         log.debug("Restaurant JDBC Writer 생성");
 
-        return new JdbcBatchItemWriterBuilder<Restaurant>()
+        ItemWriter<Restaurant> writer = new JdbcBatchItemWriterBuilder<Restaurant>()
                 .dataSource(dataSource)
-                .sql(INSERT_SQL)
+                .sql(insertSql(INSERT_SQL, targetTable, loadDate))
                 .itemSqlParameterSourceProvider(new BeanPropertyItemSqlParameterSourceProvider<>())
                 .build();
+
+        ImporterProperties.Geo geo = properties.getGeo();
+        if (geo.isEnabled()) {
+            log.info("Geo 변환 활성화 - EPSG:5174 -> WGS84, Geohash 정밀도: {}", geo.getGeohashPrecision());
+            writer = new RestaurantGeoItemWriter(
+                    writer,
+                    loadDate == null ? targetTable + "_location" : null,
+                    new NamedParameterJdbcTemplate(dataSource),
+                    new Epsg5174Transformer(),
+                    geo.getGeohashPrecision());
+        }
+        if (summaryCollector != null) {
+            writer = new RestaurantSummaryItemWriter(writer, summaryCollector);
+        }
+        return new BisectingJdbcBatchItemWriter<>(writer, dataSource);
+    }
+
+    /**
+     * 컬럼형 청크 Writer 생성 (importer.columnar.enabled)
+     * @param targetTable 적재 테이블 (Geo 옵션 활성화 시 위치 테이블은 {targetTable}_location)
+     * @param loadDate 이력 테이블 적재일, null이면 일반 적재
+     * @param summaryCollector 파티션 집계 수집기, null이면 집계하지 않음
+     */
+    public RestaurantColumnChunkWriter createColumnChunkWriter(String targetTable, LocalDate loadDate,
+                                                               RestaurantSummaryCollector summaryCollector) {
+        log.debug("Restaurant 컬럼형 JDBC Writer 생성");
+
+        ImporterProperties.Geo geo = properties.getGeo();
+        return new RestaurantColumnChunkWriter(
+                dataSource,
+                targetTable,
+                loadDate,
+                geo.isEnabled() ? new Epsg5174Transformer() : null,
+                geo.getGeohashPrecision(),
+                summaryCollector);
+    }
+
+    /**
+     * INSERT 문 생성, 적재일이 있으면 load_date 컬럼을 날짜 리터럴로 추가 (Job 전체에서 상수)
+     * @param template 테이블, 추가 컬럼, 추가 값 순서의 포맷 문자열
+     */
+    static String insertSql(String template, String targetTable, LocalDate loadDate) {
+        return loadDate == null
+                ? template.formatted(targetTable, "", "")
+                : template.formatted(targetTable, "load_date,", "DATE '" + loadDate + "',");
     }
 }
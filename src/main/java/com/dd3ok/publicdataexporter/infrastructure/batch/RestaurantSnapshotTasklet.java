@@ -0,0 +1,27 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.snapshot.RestaurantSnapshotService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적재 완료 후 조회용 스냅샷을 재생성하는 Tasklet (Job의 마지막 Step)
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantSnapshotTasklet implements Tasklet {
+
+    private final RestaurantSnapshotService snapshotService;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Object dataset = chunkContext.getStepContext().getJobParameters().get("dataset");
+        int rowCount = snapshotService.rebuild(dataset != null ? dataset.toString() : null);
+        chunkContext.getStepContext().getStepExecution().getExecutionContext().putInt("snapshot.rows", rowCount);
+        return RepeatStatus.FINISHED;
+    }
+}
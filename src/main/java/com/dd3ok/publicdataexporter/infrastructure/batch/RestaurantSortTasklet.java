@@ -0,0 +1,76 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 적재 전에 입력 파일을 관리번호 순으로 정렬하는 Tasklet (키 정렬 모드 Job의 첫 Step)
+ *
+ * - 정렬 결과 파일 경로를 Job ExecutionContext(sortedInputFile)에 저장하여 파티셔너와 Reader가 사용
+ * - 정렬된 파일을 라인 범위로 나누므로 파티션마다 서로 겹치지 않는 키 구간을 순서대로 적재
+ * - 재시작 시 Reader의 바이트 오프셋이 정렬 결과 파일 기준이므로, 파일은 Job이 완료된 경우에만 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSortTasklet implements Tasklet, JobExecutionListener {
+
+    public static final String SORTED_INPUT_FILE_KEY = "sortedInputFile";
+    private static final String KEY_COLUMN_NAME = "관리번호";
+
+    private final DatasetRegistry datasetRegistry;
+    private final RestaurantCsvItemReader restaurantCsvItemReader;
+    private final ImporterProperties properties;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Map<String, Object> jobParameters = chunkContext.getStepContext().getJobParameters();
+        ImporterProperties.Dataset dataset = datasetRegistry.get((String) jobParameters.get("dataset"));
+        Resource resource = datasetRegistry.getResource(dataset, (String) jobParameters.get("inputFile"));
+
+        Path directory = Path.of(properties.getSort().getDirectory()).toAbsolutePath();
+        JobExecution jobExecution = chunkContext.getStepContext().getStepExecution().getJobExecution();
+        Path sorted = directory.resolve(dataset.getName() + "-" + jobExecution.getId() + ".sorted.csv");
+
+        ExternalMergeSorter sorter = new ExternalMergeSorter(directory.resolve("runs"), properties.getSort().getRunBytes());
+        long lines;
+        try (InputStream input = resource.getInputStream()) {
+            lines = sorter.sort(input, sorted, restaurantCsvItemReader.columnIndex(dataset, KEY_COLUMN_NAME));
+        }
+        log.info("입력 파일 정렬 완료 - {}: {}건 -> {}", dataset.getName(), lines, sorted);
+
+        jobExecution.getExecutionContext().putString(SORTED_INPUT_FILE_KEY, sorted.toString());
+        return RepeatStatus.FINISHED;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        ExecutionContext executionContext = jobExecution.getExecutionContext();
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED || !executionContext.containsKey(SORTED_INPUT_FILE_KEY)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(Path.of(executionContext.getString(SORTED_INPUT_FILE_KEY)));
+        } catch (IOException e) {
+            log.warn("정렬 결과 파일 삭제 실패 - {}", executionContext.getString(SORTED_INPUT_FILE_KEY), e);
+        }
+    }
+}
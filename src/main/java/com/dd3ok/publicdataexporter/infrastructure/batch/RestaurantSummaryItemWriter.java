@@ -0,0 +1,32 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * INSERT에 성공한 행을 대시보드 집계에 반영하는 Writer (importer.summary.enabled)
+ * 중복 키 분할 재시도 Writer 안쪽에 연결하여, 예외로 세이브포인트까지 되돌린 구간은 집계하지 않음
+ */
+@RequiredArgsConstructor
+public class RestaurantSummaryItemWriter implements ItemWriter<Restaurant> {
+
+    private final ItemWriter<Restaurant> delegate;
+    private final RestaurantSummaryCollector collector;
+
+    @Override
+    public void write(Chunk<? extends Restaurant> chunk) throws Exception {
+        delegate.write(chunk);
+        for (Restaurant restaurant : chunk) {
+            collector.add(
+                    restaurant.getOpenAuthCode(),
+                    restaurant.getIndustryType(),
+                    restaurant.getLicensingDate() != null
+                            ? restaurant.getLicensingDate().getYear()
+                            : RestaurantSummaryCollector.UNKNOWN_YEAR,
+                    restaurant.getCloseDate() != null);
+        }
+    }
+}
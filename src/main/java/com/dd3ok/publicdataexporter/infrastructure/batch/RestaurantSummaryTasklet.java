@@ -0,0 +1,62 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파티션별 집계 합계를 합쳐 요약 테이블에 반영하는 Tasklet (importer.summary.enabled)
+ * 재시작 시 이전 실행에서 완료된 파티션(또는 Manager Step 전체)은 다시 실행되지 않으므로,
+ * 현재 JobExecution이 아닌 JobInstance의 모든 실행에서 파티션마다 마지막 StepExecution의 합계를 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantSummaryTasklet implements Tasklet {
+
+    /**
+     * 파티션 StepExecution 이름 접두사 (Worker Step 이름 + 파티션 구분자)
+     */
+    private static final String PARTITION_STEP_PREFIX = "restaurantWorkerStep:";
+
+    private final RestaurantSummaryService summaryService;
+    private final JobExplorer jobExplorer;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        JobExecution jobExecution = stepExecution.getJobExecution();
+
+        Map<String, StepExecution> lastPartitions = new HashMap<>();
+        for (JobExecution execution : jobExplorer.getJobExecutions(jobExecution.getJobInstance())) {
+            for (StepExecution partition : execution.getStepExecutions()) {
+                if (partition.getStepName().startsWith(PARTITION_STEP_PREFIX)) {
+                    lastPartitions.merge(partition.getStepName(), partition,
+                            (previous, current) -> current.getId() > previous.getId() ? current : previous);
+                }
+            }
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        for (StepExecution partition : lastPartitions.values()) {
+            RestaurantSummaryCollector.merge(totals, partition.getExecutionContext().get(RestaurantSummaryCollector.TOTALS_KEY));
+        }
+        int partitions = lastPartitions.size();
+
+        Object dataset = chunkContext.getStepContext().getJobParameters().get("dataset");
+        int rows = summaryService.write(dataset != null ? dataset.toString() : null, totals);
+        stepExecution.getExecutionContext().putInt("summary.partitions", partitions);
+        stepExecution.getExecutionContext().putInt("summary.rows", rows);
+        return RepeatStatus.FINISHED;
+    }
+}
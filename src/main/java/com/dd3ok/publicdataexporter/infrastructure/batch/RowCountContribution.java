@@ -0,0 +1,82 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writer가 청크 안에서 행 단위로 처리한 건수를 Step 건수에 반영하는 보정값 (파티션마다 하나, StepScope)
+ *
+ * Step은 Writer에 넘긴 아이템 수로 읽기/쓰기 건수를 집계하므로, 중복 키를 Writer가 직접 건너뛰거나
+ * 청크 전체를 아이템 하나로 넘기는 컬럼형 청크에서는 행 단위 건수와 달라집니다.
+ *
+ * - Writer는 청크 트랜잭션 안에서 보정값(add)만 모으고 StepExecution은 직접 바꾸지 않음
+ * - 커밋 직전 update()에서 Step이 청크 건수를 반영한 StepExecution에 보정값을 더함
+ *   (JobRepository가 StepExecution을 저장하기 전, 청크와 같은 트랜잭션이므로 실패/중지된 Step도 커밋된 청크까지의 행 단위 건수가 남음)
+ * - 커밋이 실패하면 Step이 StepExecution을 청크 시작 시점으로 되돌리므로 보정값도 함께 되돌아감
+ * - update() 전에 롤백된 청크의 보정값은 버림 (fault-tolerant 재처리 시 중복 반영 방지)
+ */
+public class RowCountContribution implements ItemStream, StepExecutionListener {
+
+    private StepExecution stepExecution;
+    private long readCount;
+    private long writeCount;
+    private long filterCount;
+    private long writeSkipCount;
+    private boolean synchronizationRegistered;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    /**
+     * 현재 청크 트랜잭션의 보정값 추가 (Step이 집계한 건수와의 차이)
+     */
+    public void add(long readCount, long writeCount, long filterCount, long writeSkipCount) {
+        this.readCount += readCount;
+        this.writeCount += writeCount;
+        this.filterCount += filterCount;
+        this.writeSkipCount += writeSkipCount;
+        registerSynchronization();
+    }
+
+    private void registerSynchronization() {
+        if (synchronizationRegistered || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronizationRegistered = false;
+                discard(); // 커밋된 보정값은 update()에서 이미 반영
+            }
+        });
+        synchronizationRegistered = true;
+    }
+
+    /**
+     * 청크 처리가 끝나고 커밋 직전에 호출되므로, 커밋될 현재 청크의 보정값을 StepExecution에 반영
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (stepExecution == null) {
+            return;
+        }
+        stepExecution.setReadCount(stepExecution.getReadCount() + readCount);
+        stepExecution.setWriteCount(stepExecution.getWriteCount() + writeCount);
+        stepExecution.setFilterCount(stepExecution.getFilterCount() + filterCount);
+        stepExecution.setWriteSkipCount(stepExecution.getWriteSkipCount() + writeSkipCount);
+        discard();
+    }
+
+    private void discard() {
+        readCount = 0;
+        writeCount = 0;
+        filterCount = 0;
+        writeSkipCount = 0;
+    }
+}
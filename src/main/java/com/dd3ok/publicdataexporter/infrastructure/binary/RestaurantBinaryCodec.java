@@ -0,0 +1,176 @@
+package com.dd3ok.publicdataexporter.infrastructure.binary;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Restaurant 한 행의 바이너리 인코딩 (Restaurant 생성자 인자 순서의 31개 필드)
+ *
+ * - 널 비트맵(long)의 i번째 비트가 1이면 i번째 필드는 값 없이 건너뜀
+ * - 문자열: 길이(int) + UTF-8, 날짜: epoch day(int), 일시: epoch second(long) + nano(int) (UTC 기준, 시간대 변환 없음)
+ * - 정수: int, 실수: double, 좌표(BigDecimal): scale(int) + unscaled 길이(int) + 2의 보수 바이트 (원본 자릿수 그대로 복원)
+ */
+final class RestaurantBinaryCodec {
+
+    private enum Type { STRING, DATE, DATE_TIME, INTEGER, DOUBLE, DECIMAL }
+
+    private static final Type[] TYPES = {
+            Type.STRING,    // managementNumber
+            Type.DATE,      // licensingDate
+            Type.DATE,      // closeDate
+            Type.STRING,    // locationPhoneNumber
+            Type.DOUBLE,    // locationArea
+            Type.STRING,    // locationZipCode
+            Type.STRING,    // fullAddress
+            Type.STRING,    // roadNameAddress
+            Type.STRING,    // roadNameZipCode
+            Type.STRING,    // businessName
+            Type.DATE_TIME, // lastModifiedAt
+            Type.STRING,    // dataUpdateType
+            Type.DATE_TIME, // dataUpdatedAt
+            Type.STRING,    // industryType
+            Type.DECIMAL,   // coordinateX
+            Type.DECIMAL,   // coordinateY
+            Type.STRING,    // openAuthCode
+            Type.INTEGER,   // maleWorkerCount
+            Type.INTEGER,   // femaleWorkerCount
+            Type.STRING,    // surroundingAreaType
+            Type.STRING,    // gradeType
+            Type.STRING,    // waterFacilityType
+            Type.STRING,    // buildingOwnershipType
+            Type.INTEGER,   // monthlyRent
+            Type.STRING,    // multiUseBusinessYn
+            Type.DOUBLE,    // totalFacilitySize
+            Type.STRING,    // traditionalBusinessNumber
+            Type.STRING,    // traditionalBusinessMainFood
+            Type.DOUBLE,    // latitude
+            Type.DOUBLE,    // longitude
+            Type.STRING     // geohash
+    };
+
+    private RestaurantBinaryCodec() {
+    }
+
+    static void encode(Restaurant r, DataOutputStream out) throws IOException {
+        Object[] values = {
+                r.getManagementNumber(), r.getLicensingDate(), r.getCloseDate(), r.getLocationPhoneNumber(),
+                r.getLocationArea(), r.getLocationZipCode(), r.getFullAddress(), r.getRoadNameAddress(),
+                r.getRoadNameZipCode(), r.getBusinessName(), r.getLastModifiedAt(), r.getDataUpdateType(),
+                r.getDataUpdatedAt(), r.getIndustryType(), r.getCoordinateX(), r.getCoordinateY(),
+                r.getOpenAuthCode(), r.getMaleWorkerCount(), r.getFemaleWorkerCount(), r.getSurroundingAreaType(),
+                r.getGradeType(), r.getWaterFacilityType(), r.getBuildingOwnershipType(), r.getMonthlyRent(),
+                r.getMultiUseBusinessYn(), r.getTotalFacilitySize(), r.getTraditionalBusinessNumber(),
+                r.getTraditionalBusinessMainFood(), r.getLatitude(), r.getLongitude(), r.getGeohash()
+        };
+
+        long nulls = 0;
+        for (int field = 0; field < values.length; field++) {
+            if (values[field] == null) {
+                nulls |= 1L << field;
+            }
+        }
+        out.writeLong(nulls);
+
+        for (int field = 0; field < values.length; field++) {
+            Object value = values[field];
+            if (value == null) {
+                continue;
+            }
+            switch (TYPES[field]) {
+                case STRING -> {
+                    byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(bytes.length);
+                    out.write(bytes);
+                }
+                case DATE -> out.writeInt((int) ((LocalDate) value).toEpochDay());
+                case DATE_TIME -> {
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                    out.writeInt(dateTime.getNano());
+                }
+                case INTEGER -> out.writeInt((Integer) value);
+                case DOUBLE -> out.writeDouble((Double) value);
+                case DECIMAL -> {
+                    BigDecimal decimal = (BigDecimal) value;
+                    byte[] unscaled = decimal.unscaledValue().toByteArray();
+                    out.writeInt(decimal.scale());
+                    out.writeInt(unscaled.length);
+                    out.write(unscaled);
+                }
+            }
+        }
+    }
+
+    /**
+     * 버퍼의 현재 위치에서 행 하나(널 비트맵부터)를 읽음
+     */
+    static Restaurant decode(ByteBuffer in) {
+        long nulls = in.getLong();
+        Object[] values = new Object[TYPES.length];
+        for (int field = 0; field < TYPES.length; field++) {
+            if ((nulls & (1L << field)) != 0) {
+                continue;
+            }
+            values[field] = switch (TYPES[field]) {
+                case STRING -> new String(bytes(in), StandardCharsets.UTF_8);
+                case DATE -> LocalDate.ofEpochDay(in.getInt());
+                case DATE_TIME -> LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+                case INTEGER -> in.getInt();
+                case DOUBLE -> in.getDouble();
+                case DECIMAL -> {
+                    int scale = in.getInt();
+                    yield new BigDecimal(new BigInteger(bytes(in)), scale);
+                }
+            };
+        }
+
+        return Restaurant.builder()
+                .managementNumber((String) values[0])
+                .licensingDate((LocalDate) values[1])
+                .closeDate((LocalDate) values[2])
+                .locationPhoneNumber((String) values[3])
+                .locationArea((Double) values[4])
+                .locationZipCode((String) values[5])
+                .fullAddress((String) values[6])
+                .roadNameAddress((String) values[7])
+                .roadNameZipCode((String) values[8])
+                .businessName((String) values[9])
+                .lastModifiedAt((LocalDateTime) values[10])
+                .dataUpdateType((String) values[11])
+                .dataUpdatedAt((LocalDateTime) values[12])
+                .industryType((String) values[13])
+                .coordinateX((BigDecimal) values[14])
+                .coordinateY((BigDecimal) values[15])
+                .openAuthCode((String) values[16])
+                .maleWorkerCount((Integer) values[17])
+                .femaleWorkerCount((Integer) values[18])
+                .surroundingAreaType((String) values[19])
+                .gradeType((String) values[20])
+                .waterFacilityType((String) values[21])
+                .buildingOwnershipType((String) values[22])
+                .monthlyRent((Integer) values[23])
+                .multiUseBusinessYn((String) values[24])
+                .totalFacilitySize((Double) values[25])
+                .traditionalBusinessNumber((String) values[26])
+                .traditionalBusinessMainFood((String) values[27])
+                .latitude((Double) values[28])
+                .longitude((Double) values[29])
+                .geohash((String) values[30])
+                .build();
+    }
+
+    private static byte[] bytes(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return bytes;
+    }
+}
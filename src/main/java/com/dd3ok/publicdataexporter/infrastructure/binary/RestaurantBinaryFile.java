@@ -0,0 +1,160 @@
+package com.dd3ok.publicdataexporter.infrastructure.binary;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+import static com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryFormat.*;
+
+/**
+ * 바이너리 행 파일 읽기 (재생 모드)
+ *
+ * - 열 때 푸터와 블록 인덱스만 읽고 검증 (인덱스 CRC32C 포함)
+ * - 블록은 요청 시 블록 단위로 메모리 매핑하고 CRC32C를 확인한 뒤 행을 순서대로 디코딩
+ *   (블록 단위 매핑이므로 파일 크기에 2GB 매핑 제한이 없음)
+ * - 한 인스턴스는 파티션 하나(한 스레드)에서만 사용
+ */
+public class RestaurantBinaryFile implements Closeable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final CRC32C checksum = new CRC32C();
+    private final long[] offsets;
+    private final int[] lengths;
+    private final int[] rowCounts;
+    private final int[] checksums;
+    private final long rowCount;
+
+    private RestaurantBinaryFile(Path path, FileChannel channel) throws IOException {
+        this.path = path;
+        this.channel = channel;
+
+        long size = channel.size();
+        if (size < HEADER_SIZE + FOOTER_SIZE) {
+            throw new IllegalStateException("Not a binary row file (too short): " + path);
+        }
+        ByteBuffer header = read(0, HEADER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+            throw new IllegalStateException("Not a binary row file or unsupported version: " + path);
+        }
+        ByteBuffer footer = read(size - FOOTER_SIZE, FOOTER_SIZE);
+        long indexOffset = footer.getLong();
+        int blockCount = footer.getInt();
+        this.rowCount = footer.getLong();
+        int indexChecksum = footer.getInt();
+        if (footer.getInt() != MAGIC || indexOffset + (long) blockCount * INDEX_ENTRY_SIZE != size - FOOTER_SIZE) {
+            throw new IllegalStateException("Binary row file is truncated or has a corrupted footer: " + path);
+        }
+
+        ByteBuffer index = read(indexOffset, blockCount * INDEX_ENTRY_SIZE);
+        checksum.reset();
+        checksum.update(index.duplicate());
+        if ((int) checksum.getValue() != indexChecksum) {
+            throw new IllegalStateException("Checksum mismatch in block index: " + path);
+        }
+        this.offsets = new long[blockCount];
+        this.lengths = new int[blockCount];
+        this.rowCounts = new int[blockCount];
+        this.checksums = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            offsets[block] = index.getLong();
+            lengths[block] = index.getInt();
+            rowCounts[block] = index.getInt();
+            checksums[block] = index.getInt();
+        }
+    }
+
+    public static RestaurantBinaryFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new RestaurantBinaryFile(path, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int blockCount() {
+        return offsets.length;
+    }
+
+    public int rowCount(int block) {
+        return rowCounts[block];
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 블록을 매핑하고 체크섬을 확인
+     */
+    public Block block(int block) throws IOException {
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offsets[block], lengths[block]);
+        checksum.reset();
+        checksum.update(buffer.duplicate());
+        if ((int) checksum.getValue() != checksums[block]) {
+            throw new IllegalStateException("Checksum mismatch in block " + block + ": " + path);
+        }
+        return new Block(buffer, rowCounts[block]);
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IllegalStateException("Unexpected end of binary row file: " + path);
+            }
+        }
+        return buffer.flip();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 매핑된 블록의 행 커서
+     */
+    public static final class Block {
+
+        private final ByteBuffer buffer;
+        private int remaining;
+
+        private Block(ByteBuffer buffer, int rowCount) {
+            this.buffer = buffer;
+            this.remaining = rowCount;
+        }
+
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        public Restaurant next() {
+            int length = buffer.getInt();
+            int end = buffer.position() + length;
+            Restaurant restaurant = RestaurantBinaryCodec.decode(buffer);
+            if (buffer.position() != end) {
+                throw new IllegalStateException("Row length mismatch in binary row file");
+            }
+            remaining--;
+            return restaurant;
+        }
+
+        /**
+         * 디코딩 없이 행 길이만큼 건너뜀 (재시작 위치 이동)
+         */
+        public void skip() {
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+            remaining--;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.dd3ok.publicdataexporter.infrastructure.binary;
+
+/**
+ * 바이너리 행 파일 레이아웃 상수
+ *
+ * 헤더: MAGIC, VERSION
+ * 블록: 행을 이어 붙인 구간 (행 = 길이(int) + 널 비트맵(long) + 널이 아닌 필드 값)
+ * 인덱스: 블록마다 시작 위치(long), 길이(int), 행 수(int), CRC32C(int)
+ * 푸터: 인덱스 시작 위치(long), 블록 수(int), 전체 행 수(long), 인덱스 CRC32C(int), MAGIC
+ */
+final class RestaurantBinaryFormat {
+
+    static final int MAGIC = 0x5242494E; // "RBIN"
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int INDEX_ENTRY_SIZE = Long.BYTES + 3 * Integer.BYTES;
+    static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private RestaurantBinaryFormat() {
+    }
+}
@@ -0,0 +1,118 @@
+package com.dd3ok.publicdataexporter.infrastructure.binary;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import static com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryFormat.*;
+
+/**
+ * 변환된 Restaurant 행을 바이너리 행 파일로 기록 (컴파일 모드)
+ *
+ * - 행을 blockBytes 이상 모으면 블록 하나로 내려쓰고, 블록 위치/행 수/CRC32C를 인덱스에 기록
+ * - finish()에서 인덱스와 푸터를 쓰고 임시 파일을 원자적으로 교체, finish() 없이 close()하면 임시 파일 삭제
+ */
+public class RestaurantBinaryWriter implements Closeable {
+
+    private final Path target;
+    private final Path temp;
+    private final int blockBytes;
+    private final DataOutputStream out;
+
+    private final ByteArrayOutputStream row = new ByteArrayOutputStream(1024);
+    private final DataOutputStream rowData = new DataOutputStream(row);
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream();
+    private final DataOutputStream blockData = new DataOutputStream(block);
+    private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+    private final DataOutputStream indexData = new DataOutputStream(index);
+    private final CRC32C checksum = new CRC32C();
+
+    private long position = HEADER_SIZE;
+    private int blockRows;
+    private int blockCount;
+    private long rowCount;
+    private boolean finished;
+
+    /**
+     * @param blockBytes 블록 하나에 모을 행 바이트 수 (파티션 분할 단위)
+     */
+    public RestaurantBinaryWriter(Path target, int blockBytes) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        this.target = target;
+        this.temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        this.blockBytes = blockBytes;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 20));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+    }
+
+    public void write(Restaurant restaurant) throws IOException {
+        RestaurantBinaryCodec.encode(restaurant, rowData);
+        blockData.writeInt(row.size());
+        row.writeTo(blockData);
+        row.reset();
+        blockRows++;
+        rowCount++;
+        if (block.size() >= blockBytes) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRows == 0) {
+            return;
+        }
+        checksum.reset();
+        block.writeTo(new CheckedOutputStream(out, checksum));
+        indexData.writeLong(position);
+        indexData.writeInt(block.size());
+        indexData.writeInt(blockRows);
+        indexData.writeInt((int) checksum.getValue());
+
+        position += block.size();
+        blockCount++;
+        blockRows = 0;
+        block.reset();
+    }
+
+    /**
+     * 남은 행과 인덱스/푸터를 기록하고 대상 파일로 교체
+     * @return 기록한 행 수
+     */
+    public long finish() throws IOException {
+        flushBlock();
+        checksum.reset();
+        index.writeTo(new CheckedOutputStream(out, checksum));
+        out.writeLong(position);
+        out.writeInt(blockCount);
+        out.writeLong(rowCount);
+        out.writeInt((int) checksum.getValue());
+        out.writeInt(MAGIC);
+        out.close();
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        finished = true;
+        return rowCount;
+    }
+
+    public int blockCount() {
+        return blockCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!finished) {
+            out.close();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
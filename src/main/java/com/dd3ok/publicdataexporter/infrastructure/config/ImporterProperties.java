@@ -0,0 +1,316 @@
+package com.dd3ok.publicdataexporter.infrastructure.config;
+
+import com.dd3ok.publicdataexporter.domain.geo.GeoHash;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 적재 옵션 설정 (application.yml의 importer.* 항목)
+ * 모든 옵션은 기본적으로 비활성화되어 있으며, 기존 동작을 그대로 유지합니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "importer")
+public class ImporterProperties {
+
+    private final Geo geo = new Geo();
+    private final Executor executor = new Executor();
+    private final Runner runner = new Runner();
+    private final Watch watch = new Watch();
+    private final Snapshot snapshot = new Snapshot();
+    private final Columnar columnar = new Columnar();
+    private final History history = new History();
+    private final Sort sort = new Sort();
+    private final Summary summary = new Summary();
+    private final Binary binary = new Binary();
+
+    /**
+     * 적재 대상 데이터셋 목록, 설정하지 않으면 일반음식점(restaurant) 데이터셋만 적재
+     */
+    private List<Dataset> datasets = new ArrayList<>(List.of(Dataset.restaurant()));
+
+    /**
+     * EPSG:5174 -> WGS84 좌표 변환 및 공간 인덱스 적재 옵션
+     */
+    @Getter
+    @Setter
+    public static class Geo {
+
+        /**
+         * 활성화 시 청크 단위로 위경도/Geohash를 계산하고 restaurant_location 테이블에 POINT를 적재
+         */
+        private boolean enabled = false;
+
+        /**
+         * 저장할 Geohash 문자 수
+         */
+        private int geohashPrecision = GeoHash.DEFAULT_PRECISION;
+    }
+
+    /**
+     * 파티션 실행 스레드 옵션
+     */
+    @Getter
+    @Setter
+    public static class Executor {
+
+        /**
+         * PLATFORM: 코어 수 크기의 고정 스레드 풀 (기본값)
+         * VIRTUAL: 파티션마다 가상 스레드 실행 (Java 21 이상), 동시 실행 수는 커넥션 풀 크기로 제한
+         */
+        private Mode mode = Mode.PLATFORM;
+
+        /**
+         * 파티션 수, 0이면 모드에 따라 자동 결정 (PLATFORM: 코어 수, VIRTUAL: 코어 수 x 4)
+         */
+        private int gridSize = 0;
+
+        /**
+         * VIRTUAL 모드의 동시 실행 파티션 수, 0이면 Hikari 최대 풀 크기 - 동시 실행 Job 수
+         */
+        private int concurrencyLimit = 0;
+
+        public int resolveGridSize() {
+            if (gridSize > 0) {
+                return gridSize;
+            }
+            int processors = Runtime.getRuntime().availableProcessors();
+            return mode == Mode.VIRTUAL ? processors * 4 : processors;
+        }
+
+        /**
+         * 파티션 실행기는 동시에 실행되는 모든 Job이 공유하므로, Job마다 Manager Step/JobRepository용 커넥션을 하나씩 남김
+         * @param maxConcurrentJobs 동시에 실행할 데이터셋 Job 수 (importer.runner.max-concurrent-jobs)
+         */
+        public int resolveConcurrencyLimit(int maximumPoolSize, int maxConcurrentJobs) {
+            return concurrencyLimit > 0
+                    ? concurrencyLimit
+                    : Math.max(1, maximumPoolSize - Math.max(1, maxConcurrentJobs));
+        }
+
+        public enum Mode {
+            PLATFORM, VIRTUAL
+        }
+    }
+
+    /**
+     * 여러 데이터셋 동시 적재 옵션
+     * 파티션 스레드 풀과 커넥션 풀은 모든 데이터셋이 공유
+     */
+    @Getter
+    @Setter
+    public static class Runner {
+
+        /**
+         * 동시에 실행할 데이터셋 Job 수
+         */
+        private int maxConcurrentJobs = 2;
+
+        /**
+         * 파티션당 최소 라인 수, 작은 파일이 공유 스레드 풀을 잘게 점유하지 않도록 파티션 수를 줄임
+         */
+        private int minLinesPerPartition = 10000;
+    }
+
+    /**
+     * 디렉터리 감시 모드 옵션
+     * 활성화 시 JVM을 종료하지 않고 입력 디렉터리에 도착한 파일마다 적재 Job을 실행
+     */
+    @Getter
+    @Setter
+    public static class Watch {
+
+        private boolean enabled = false;
+
+        /**
+         * 감시할 입력 디렉터리
+         */
+        private String directory = "input";
+
+        /**
+         * 파일 크기가 이 시간(ms) 동안 변하지 않으면 복사가 끝난 것으로 판단
+         */
+        private long settleMillis = 5000;
+    }
+
+    /**
+     * 조회용 읽기 전용 스냅샷 옵션
+     * 활성화 시 적재 Job 마지막 단계에서 적재 테이블을 스냅샷 파일로 만들고 메모리 매핑하여 조회 API로 제공
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+
+        private boolean enabled = false;
+
+        /**
+         * 스냅샷 파일 디렉터리 ({dataset}.snapshot)
+         */
+        private String directory = "snapshot";
+
+        /**
+         * 조회 API 포트, 0이면 API를 띄우지 않음
+         */
+        private int httpPort = 0;
+    }
+
+    /**
+     * 컬럼형 청크 옵션
+     * 활성화 시 청크 전체를 컬럼 단위 기본형 배열(RestaurantColumnChunk)로 읽고 변환하고 적재하여
+     * 행마다 DTO/도메인 객체와 박싱된 숫자/날짜 객체를 만들지 않음
+     */
+    @Getter
+    @Setter
+    public static class Columnar {
+
+        private boolean enabled = false;
+    }
+
+    /**
+     * 적재일 파티션 이력 옵션 (MySQL 전용)
+     * 활성화 시 Job마다 {targetTable}_history의 적재일(launchTime 날짜) 파티션에 적재하고,
+     * 최신 적재일을 {targetTable}_current 뷰로 제공하며 보관 개수를 넘는 파티션은 DROP PARTITION으로 삭제
+     */
+    @Getter
+    @Setter
+    public static class History {
+
+        private boolean enabled = false;
+
+        /**
+         * 보관할 적재일 파티션 수 (최신 적재일 포함)
+         */
+        private int retention = 7;
+    }
+
+    /**
+     * 키 정렬 적재 옵션
+     * 활성화 시 적재 전에 입력 파일을 관리번호 순으로 외부 병합 정렬하여, 파티션마다 서로 겹치지 않는 키 구간을
+     * 순서대로 INSERT (UNIQUE 인덱스에 무작위 위치로 끼워 넣지 않음)
+     */
+    @Getter
+    @Setter
+    public static class Sort {
+
+        private boolean enabled = false;
+
+        /**
+         * 정렬 런 파일과 정렬 결과 파일 디렉터리 (적재 완료 후 정렬 결과 파일 삭제)
+         */
+        private String directory = "sort";
+
+        /**
+         * 런 하나에 메모리로 모을 라인 바이트 수
+         */
+        private long runBytes = 64L * 1024 * 1024;
+    }
+
+    /**
+     * 대시보드 집계 옵션
+     * 활성화 시 적재 중 파티션마다 개방자치단체코드/업태구분명/영업 상태/인허가 연도별 건수를 집계하고,
+     * 적재 직후 {targetTable}_summary 테이블에 반영 (적재 테이블 전체 GROUP BY 없음)
+     */
+    @Getter
+    @Setter
+    public static class Summary {
+
+        private boolean enabled = false;
+    }
+
+    /**
+     * 바이너리 행 파일 옵션
+     * CSV를 한 번만 파싱하여 타입이 정해진 바이너리 행 파일({directory}/{dataset}.rbin)로 컴파일하고,
+     * 여러 환경에 같은 파일을 적재할 때는 디코딩/파싱 없이 메모리 매핑으로 재생
+     */
+    @Getter
+    @Setter
+    public static class Binary {
+
+        /**
+         * NONE: CSV 적재 (기본값)
+         * COMPILE: CSV를 바이너리 행 파일로 컴파일만 하고 적재하지 않음
+         * REPLAY: CSV 대신 바이너리 행 파일을 블록 단위로 분할하여 적재 (키 정렬/컬럼형 청크 옵션은 사용하지 않음)
+         */
+        private Mode mode = Mode.NONE;
+
+        /**
+         * 바이너리 행 파일 디렉터리
+         */
+        private String directory = "binary";
+
+        /**
+         * 블록 하나에 모을 행 바이트 수 (재생 시 파티션 분할 단위)
+         */
+        private int blockBytes = 1024 * 1024;
+
+        public Path resolveFile(String datasetName) {
+            return Path.of(directory, datasetName + ".rbin");
+        }
+
+        public enum Mode {
+            NONE, COMPILE, REPLAY
+        }
+    }
+
+    /**
+     * 데이터셋 정의: 입력 파일, 컬럼 구성, 적재 테이블, 키 컬럼
+     * 컬럼 타입 변환은 LOCALDATA 표준 레이아웃(RestaurantItemProcessor)을 공유
+     */
+    @Getter
+    @Setter
+    public static class Dataset {
+
+        /**
+         * 인코딩 자동 판별 (UTF-8 / MS949)
+         */
+        public static final String AUTO_ENCODING = "auto";
+
+        /**
+         * 데이터셋 이름 (Job 파라미터 dataset 값)
+         */
+        private String name;
+
+        /**
+         * 입력 파일 위치 (classpath:, file: 등 Spring Resource 경로)
+         */
+        private String location;
+
+        /**
+         * 적재 테이블
+         */
+        private String targetTable;
+
+        /**
+         * 중복 판별 키 컬럼
+         */
+        private String keyColumn = "management_number";
+
+        /**
+         * CSV 컬럼 순서 (표준 헤더명), 비어 있으면 LOCALDATA 표준 47개 컬럼
+         */
+        private List<String> columns = new ArrayList<>();
+
+        /**
+         * 입력 파일 인코딩 (auto: 파일 앞부분으로 UTF-8/MS949 판별, 또는 EUC-KR, UTF-8 등 Charset 이름)
+         */
+        private String encoding = AUTO_ENCODING;
+
+        /**
+         * 디렉터리 감시 모드에서 이 데이터셋으로 적재할 파일명 패턴 (glob), 비어 있으면 location의 파일명
+         */
+        private String filePattern;
+
+        static Dataset restaurant() {
+            Dataset dataset = new Dataset();
+            dataset.setName("restaurant");
+            dataset.setLocation("classpath:data/restaurant_data.csv");
+            dataset.setTargetTable("restaurant");
+            return dataset;
+        }
+    }
+}
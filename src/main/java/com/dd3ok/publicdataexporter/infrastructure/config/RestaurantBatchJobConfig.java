@@ -2,45 +2,89 @@ package com.dd3ok.publicdataexporter.infrastructure.config;
 
 import com.dd3ok.publicdataexporter.domain.model.Restaurant;
 import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.batch.BinaryBlockPartitioner;
+import com.dd3ok.publicdataexporter.infrastructure.batch.BisectingJdbcBatchItemWriter;
+import com.dd3ok.publicdataexporter.infrastructure.batch.ByteOffsetFlatFileItemReader;
 import com.dd3ok.publicdataexporter.infrastructure.batch.LineRangePartitioner;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantBinaryItemReader;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunkProcessor;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunkReader;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunkWriter;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantCompileTasklet;
 import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantCsvItemReader;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantHistoryPrepareTasklet;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantHistoryPublishTasklet;
 import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantJdbcItemWriter;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantSnapshotTasklet;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantSortTasklet;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantSummaryTasklet;
+import com.dd3ok.publicdataexporter.infrastructure.batch.RowCountContribution;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import com.dd3ok.publicdataexporter.infrastructure.history.RestaurantHistoryService;
+import com.dd3ok.publicdataexporter.infrastructure.jfr.JfrPartitionHandler;
+import com.dd3ok.publicdataexporter.infrastructure.jfr.PipelineEventListener;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.ItemStreamReader;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * 일반음식점 현황 CSV 파일을 데이터베이스로 이관하는 Spring Batch Job 설정
+ * 일반음식점 현황 등 LOCALDATA CSV 파일을 데이터베이스로 이관하는 Spring Batch Job 설정
+ * Job 파라미터 dataset으로 입력 파일과 적재 테이블을 선택 (기본값: restaurant)
+ * Job 파라미터 inputFile이 있으면 데이터셋의 기본 입력 파일 대신 사용 (디렉터리 감시 모드)
  *
  * 아키텍처:
  * - Manager-Worker 패턴을 사용한 파티셔닝으로 대용량 데이터 병렬 처리
- * - 멀티스레드 환경에서 안전한 배치 처리
+ * - 멀티스레드 환경에서 안전한 배치 처리 (플랫폼 스레드 풀 또는 가상 스레드)
  * - 중복 데이터에 대한 유연한 오류 처리
  *
  * 처리 흐름:
  * 1. LineRangePartitioner가 CSV 파일을 여러 구간으로 분할
  * 2. 각 파티션이 독립적인 스레드에서 Reader -> Processor -> Writer 실행
  * 3. 중복 키 오류 발생 시 해당 레코드를 스킵하고 계속 진행
+ * 키 정렬 모드(importer.sort.enabled)에서는 입력 파일을 관리번호 순으로 정렬한 파일을 분할
+ * 이력 모드(importer.history.enabled)에서는 적재일 파티션 준비 -> 적재 -> 현재 뷰 교체/오래된 파티션 삭제 순서로 실행
+ * 집계 모드(importer.summary.enabled)에서는 적재 중 파티션별로 집계한 건수를 적재 직후 요약 테이블에 반영
+ * 바이너리 모드(importer.binary.mode)에서는 CSV를 바이너리 행 파일로 컴파일만 하거나(COMPILE),
+ * CSV 대신 바이너리 행 파일을 블록 범위로 분할하여 적재 (REPLAY)
  */
 @Slf4j
 @Configuration
+@EnableConfigurationProperties(ImporterProperties.class)
 @RequiredArgsConstructor
 public class RestaurantBatchJobConfig {
 
@@ -48,6 +92,8 @@ public class RestaurantBatchJobConfig {
     private final PlatformTransactionManager transactionManager;
     private final RestaurantCsvItemReader restaurantCsvItemReader;
     private final RestaurantJdbcItemWriter restaurantJdbcItemWriter;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
 
     /**
      * 청크 크기: 한 번의 트랜잭션으로 처리할 아이템 수
@@ -56,106 +102,413 @@ public class RestaurantBatchJobConfig {
     private static final int CHUNK_SIZE = 2000;
 
     /**
-     * 파티션 수: 사용 가능한 CPU 코어 수만큼 병렬 처리
-     * 시스템 리소스를 최대한 활용하여 처리 속도 향상
+     * 파티션당 허용하는 최대 스킵 건수 (Step 레벨 skip과 중복 키 분할 재시도 Writer가 같은 기준 사용)
+     */
+    private static final int SKIP_LIMIT = 1000;
+
+    /**
+     * Reader가 커밋마다 저장하는 바이트 오프셋의 ExecutionContext 키
      */
-    private static final int GRID_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final String BYTE_OFFSET_KEY =
+            RestaurantCsvItemReader.READER_NAME + "." + ByteOffsetFlatFileItemReader.BYTE_OFFSET_KEY;
 
     /**
      * 메인 Job 정의: 전체 배치 작업의 진입점
+     * importer.sort.enabled 설정 시 적재 전에 입력 파일을 관리번호 순으로 정렬하는 Step을 먼저 실행
+     * importer.history.enabled 설정 시 적재 전후로 이력 파티션 준비/게시 Step을 실행
+     * importer.summary.enabled 설정 시 적재 직후 (현재 뷰 교체 전) 요약 테이블 반영 Step을 실행
+     * importer.snapshot.enabled 설정 시 적재 후 조회용 스냅샷 생성 Step을 이어서 실행
+     * importer.binary.mode=COMPILE이면 (정렬 후) 바이너리 행 파일 컴파일 Step만 실행, REPLAY이면 정렬 Step 없음
      */
     @Bean
-    public Job restaurantCsvToDbJob(Step managerStep) {
-        return new JobBuilder("restaurantCsvToDbJob", jobRepository)
-                .start(managerStep)
+    public Job restaurantCsvToDbJob(
+            Step managerStep,
+            RestaurantSortTasklet sortTasklet,
+            RestaurantCompileTasklet compileTasklet,
+            RestaurantHistoryPrepareTasklet historyPrepareTasklet,
+            RestaurantHistoryPublishTasklet historyPublishTasklet,
+            RestaurantSummaryTasklet summaryTasklet,
+            RestaurantSnapshotTasklet snapshotTasklet
+    ) {
+        ImporterProperties.Binary.Mode binaryMode = properties.getBinary().getMode();
+        boolean sort = properties.getSort().isEnabled() && binaryMode != ImporterProperties.Binary.Mode.REPLAY;
+
+        List<Step> steps = new ArrayList<>();
+        if (sort) {
+            log.info("키 정렬 모드 - 런 크기: {} bytes", properties.getSort().getRunBytes());
+            steps.add(taskletStep("restaurantSortStep", sortTasklet));
+        }
+        if (binaryMode == ImporterProperties.Binary.Mode.COMPILE) {
+            log.info("바이너리 컴파일 모드 - 적재 없이 {}에 바이너리 행 파일 생성", properties.getBinary().getDirectory());
+            steps.add(taskletStep("restaurantCompileStep", compileTasklet));
+            return job(steps, sort ? sortTasklet : null);
+        }
+        if (binaryMode == ImporterProperties.Binary.Mode.REPLAY) {
+            log.info("바이너리 재생 모드 - {}의 바이너리 행 파일을 블록 단위로 분할하여 적재", properties.getBinary().getDirectory());
+        }
+        if (properties.getHistory().isEnabled()) {
+            log.info("이력 모드 - 적재일 파티션 보관 개수: {}", properties.getHistory().getRetention());
+            steps.add(taskletStep("restaurantHistoryPrepareStep", historyPrepareTasklet));
+        }
+        steps.add(managerStep);
+        if (properties.getSummary().isEnabled()) {
+            steps.add(taskletStep("restaurantSummaryStep", summaryTasklet));
+        }
+        if (properties.getHistory().isEnabled()) {
+            steps.add(taskletStep("restaurantHistoryPublishStep", historyPublishTasklet));
+        }
+        if (properties.getSnapshot().isEnabled()) {
+            steps.add(taskletStep("restaurantSnapshotStep", snapshotTasklet));
+        }
+        return job(steps, sort ? sortTasklet : null);
+    }
+
+    private Job job(List<Step> steps, RestaurantSortTasklet sortTasklet) {
+        SimpleJobBuilder jobBuilder = new JobBuilder("restaurantCsvToDbJob", jobRepository)
+                .start(steps.get(0));
+        steps.subList(1, steps.size()).forEach(jobBuilder::next);
+        if (sortTasklet != null) {
+            jobBuilder.listener(sortTasklet); // 완료 시 정렬 결과 파일 삭제
+        }
+        return jobBuilder.build();
+    }
+
+    private Step taskletStep(String name, Tasklet tasklet) {
+        return new StepBuilder(name, jobRepository)
+                .tasklet(tasklet, transactionManager)
                 .build();
     }
 
     /**
      * Manager Step: 파티셔닝을 관리하고 Worker Step들을 조율
+     * 바이너리 재생 모드에서는 라인 범위 대신 블록 범위로 분할
      */
     @Bean
-    public Step managerStep(TaskExecutorPartitionHandler partitionHandler, LineRangePartitioner partitioner) {
+    public Step managerStep(TaskExecutorPartitionHandler partitionHandler, LineRangePartitioner partitioner,
+                            BinaryBlockPartitioner binaryBlockPartitioner) {
+        Partitioner selected = isReplay() ? binaryBlockPartitioner : partitioner;
         return new StepBuilder("restaurantManagerStep", jobRepository)
-                .partitioner("restaurantWorkerStep", partitioner)
+                .partitioner("restaurantWorkerStep", selected)
                 .partitionHandler(partitionHandler)
                 .build();
     }
 
     /**
      * 파티션 핸들러: 각 파티션을 별도 스레드에서 실행하도록 관리
+     * 파티션 수는 실행 모드에 따라 결정 (PLATFORM: CPU 코어 수, VIRTUAL: 코어 수 x 4)
+     * JFR 녹화 중이면 파티션마다 PartitionEvent 기록
      */
     @Bean
     public TaskExecutorPartitionHandler partitionHandler(Step workerStep, TaskExecutor taskExecutor) {
-        TaskExecutorPartitionHandler partitionHandler = new TaskExecutorPartitionHandler();
+        TaskExecutorPartitionHandler partitionHandler = new JfrPartitionHandler(BYTE_OFFSET_KEY);
         partitionHandler.setStep(workerStep);
         partitionHandler.setTaskExecutor(taskExecutor);
-        partitionHandler.setGridSize(GRID_SIZE);
+        partitionHandler.setGridSize(properties.getExecutor().resolveGridSize());
         return partitionHandler;
     }
 
     /**
-     * 라인 범위 파티셔너: CSV 파일을 라인 단위로 분할
+     * 라인 범위 파티셔너: 데이터셋 입력 파일을 라인 단위로 분할
+     * 작은 파일은 파티션당 최소 라인 수에 맞춰 파티션 수를 줄여 공유 스레드 풀 점유를 최소화
      */
     @Bean
-    public LineRangePartitioner lineRangePartitioner() {
+    @StepScope
+    public LineRangePartitioner lineRangePartitioner(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("#{jobExecutionContext['sortedInputFile']}") String sortedInputFile
+    ) {
         LineRangePartitioner partitioner = new LineRangePartitioner();
-        partitioner.setResource(new ClassPathResource("data/restaurant_data.csv"));
+        partitioner.setResource(datasetRegistry.getResource(
+                datasetRegistry.get(dataset), resolveInputFile(sortedInputFile, inputFile)));
+        partitioner.setMinLinesPerPartition(properties.getRunner().getMinLinesPerPartition());
+        return partitioner;
+    }
+
+    /**
+     * 블록 범위 파티셔너: 바이너리 행 파일의 블록 인덱스로 분할 (importer.binary.mode=REPLAY)
+     */
+    @Bean
+    @StepScope
+    public BinaryBlockPartitioner binaryBlockPartitioner(@Value("#{jobParameters['dataset']}") String dataset) {
+        BinaryBlockPartitioner partitioner = new BinaryBlockPartitioner();
+        partitioner.setFile(properties.getBinary().resolveFile(datasetRegistry.get(dataset).getName()));
+        partitioner.setMinLinesPerPartition(properties.getRunner().getMinLinesPerPartition());
         return partitioner;
     }
 
     /**
      * Worker Step: 실제 데이터 처리를 담당하는 스텝
      * 각 파티션에서 독립적으로 실행되며, Reader -> Processor -> Writer 순서로 처리
+     * importer.columnar.enabled 설정 시 청크 전체를 하나의 컬럼형 청크로 처리 (Step 청크 크기 1)
+     * importer.summary.enabled 설정 시 파티션 집계 합계를 커밋마다 ExecutionContext에 저장 (재시작 시 복원)
+     * importer.binary.mode=REPLAY 설정 시 바이너리 행 파일에서 Restaurant를 바로 읽어 Writer로 전달 (Processor 없음)
      */
     @Bean
     public Step workerStep(
-            FlatFileItemReader<RestaurantCsvDto> reader,
+            ItemStreamReader<RestaurantCsvDto> reader,
             ItemProcessor<RestaurantCsvDto, Restaurant> processor,
-            ItemWriter<Restaurant> writer
+            ItemWriter<Restaurant> writer,
+            RestaurantBinaryItemReader binaryItemReader,
+            ItemStreamReader<RestaurantColumnChunk> columnChunkReader,
+            RestaurantColumnChunkProcessor columnChunkProcessor,
+            ItemWriter<RestaurantColumnChunk> columnChunkWriter,
+            PipelineEventListener pipelineEventListener,
+            RestaurantSummaryCollector summaryCollector,
+            RowCountContribution rowCountContribution
     ) {
-        return new StepBuilder("restaurantWorkerStep", jobRepository)
-                .<RestaurantCsvDto, Restaurant>chunk(CHUNK_SIZE, transactionManager)
+        if (isReplay()) {
+            return rowWorkerStep(binaryItemReader, null, writer, pipelineEventListener, summaryCollector,
+                    rowCountContribution);
+        }
+        if (properties.getColumnar().isEnabled()) {
+            log.info("컬럼형 청크 모드 - 청크 크기: {}", CHUNK_SIZE);
+            // 중복 키는 Writer가 행 단위로 처리하므로 skip 설정 없음
+            SimpleStepBuilder<RestaurantColumnChunk, RestaurantColumnChunk> builder =
+                    new StepBuilder("restaurantWorkerStep", jobRepository)
+                            .<RestaurantColumnChunk, RestaurantColumnChunk>chunk(1, transactionManager)
+                            .reader(columnChunkReader)
+                            .processor(columnChunkProcessor)
+                            .writer(columnChunkWriter)
+                            .stream(rowCountContribution)
+                            .listener((StepExecutionListener) rowCountContribution)
+                            .listener((StepExecutionListener) pipelineEventListener)
+                            .listener((ChunkListener) pipelineEventListener)
+                            .listener((ItemReadListener<Object>) pipelineEventListener)
+                            .listener((ItemProcessListener<Object, Object>) pipelineEventListener)
+                            .listener((ItemWriteListener<Object>) pipelineEventListener);
+            if (properties.getSummary().isEnabled()) {
+                builder.stream(summaryCollector);
+            }
+            return builder.build();
+        }
+        return rowWorkerStep(reader, processor, writer, pipelineEventListener, summaryCollector, rowCountContribution);
+    }
+
+    /**
+     * 행 단위 Worker Step, processor가 null이면 Reader가 읽은 Restaurant를 그대로 Writer로 전달
+     */
+    private <I> Step rowWorkerStep(
+            ItemStreamReader<I> reader,
+            ItemProcessor<I, Restaurant> processor,
+            ItemWriter<Restaurant> writer,
+            PipelineEventListener pipelineEventListener,
+            RestaurantSummaryCollector summaryCollector,
+            RowCountContribution rowCountContribution
+    ) {
+        SimpleStepBuilder<I, Restaurant> builder = new StepBuilder("restaurantWorkerStep", jobRepository)
+                .<I, Restaurant>chunk(CHUNK_SIZE, transactionManager)
                 .reader(reader)
-                .processor(processor)
                 .writer(writer)
+                .stream(rowCountContribution)
+                .listener((StepExecutionListener) rowCountContribution)
+                .listener((StepExecutionListener) pipelineEventListener)
+                .listener((ChunkListener) pipelineEventListener)
+                .listener((ItemReadListener<Object>) pipelineEventListener)
+                .listener((ItemProcessListener<Object, Object>) pipelineEventListener)
+                .listener((ItemWriteListener<Object>) pipelineEventListener);
+        if (processor != null) {
+            builder.processor(processor);
+        }
+        if (properties.getSummary().isEnabled()) {
+            builder.stream(summaryCollector);
+        }
+        return builder
                 .faultTolerant()
-                .skip(DuplicateKeyException.class) // 중복 키 오류 시 해당 레코드 스킵
-                .skipLimit(1000) // 최대 1000개까지 스킵 허용
+                .skip(DuplicateKeyException.class) // Writer가 처리하지 못한 중복 키 오류 시 해당 레코드 스킵
+                .skipLimit(SKIP_LIMIT) // 최대 1000개까지 스킵 허용
+                .listener((SkipListener<Object, Object>) pipelineEventListener)
                 .build();
     }
 
+    /**
+     * 청크 단계별 JFR 이벤트 리스너 Bean
+     * 행마다 호출되는 리스너이므로 StepScope 프록시 없이 싱글톤으로 두고, 파티션별 상태는 리스너가 스레드별로 관리
+     */
+    @Bean
+    public PipelineEventListener pipelineEventListener() {
+        return new PipelineEventListener(BYTE_OFFSET_KEY);
+    }
+
+    /**
+     * Writer가 행 단위로 처리한 건수를 Step 건수에 반영하는 보정값 Bean
+     * StepScope을 통해 파티션마다 독립적인 인스턴스 생성, 커밋 직전 StepExecution에 반영
+     */
+    @Bean
+    @StepScope
+    public RowCountContribution rowCountContribution() {
+        return new RowCountContribution();
+    }
+
+    /**
+     * 대시보드 집계 수집기 Bean (importer.summary.enabled)
+     * StepScope을 통해 파티션마다 독립적인 인스턴스 생성, Writer가 INSERT에 성공한 행을 누적
+     */
+    @Bean
+    @StepScope
+    public RestaurantSummaryCollector summaryCollector() {
+        return new RestaurantSummaryCollector();
+    }
+
     /**
      * CSV 파일 Reader Bean
      * StepScope을 통해 각 파티션마다 독립적인 인스턴스 생성
+     * 커밋마다 바이트 오프셋을 저장하여 재시작 시 마지막 커밋 위치부터 바로 재개
      */
     @Bean
     @StepScope
-    public FlatFileItemReader<RestaurantCsvDto> csvFileReader(
+    public ByteOffsetFlatFileItemReader<RestaurantCsvDto> csvFileReader(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("#{jobExecutionContext['sortedInputFile']}") String sortedInputFile,
             @Value("#{stepExecutionContext['startLine']}") Long startLine,
             @Value("#{stepExecutionContext['endLine']}") Long endLine
     ) {
-        return restaurantCsvItemReader.createReader(startLine, endLine);
+        ImporterProperties.Dataset definition = datasetRegistry.get(dataset);
+        Resource resource = datasetRegistry.getResource(definition, resolveInputFile(sortedInputFile, inputFile));
+        return restaurantCsvItemReader.createReader(definition, resource, startLine, endLine);
+    }
+
+    /**
+     * 컬럼형 청크 Reader Bean (importer.columnar.enabled)
+     * CHUNK_SIZE개 라인을 하나의 컬럼형 청크로 묶어 반환
+     */
+    @Bean
+    @StepScope
+    public RestaurantColumnChunkReader columnChunkReader(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("#{jobExecutionContext['sortedInputFile']}") String sortedInputFile,
+            @Value("#{stepExecutionContext['startLine']}") Long startLine,
+            @Value("#{stepExecutionContext['endLine']}") Long endLine
+    ) {
+        ImporterProperties.Dataset definition = datasetRegistry.get(dataset);
+        Resource resource = datasetRegistry.getResource(definition, resolveInputFile(sortedInputFile, inputFile));
+        return restaurantCsvItemReader.createColumnChunkReader(definition, resource, startLine, endLine, CHUNK_SIZE);
+    }
+
+    /**
+     * 바이너리 행 파일 Reader Bean (importer.binary.mode=REPLAY)
+     * 파티션에 배정된 블록 범위만 메모리 매핑하여 읽음
+     */
+    @Bean
+    @StepScope
+    public RestaurantBinaryItemReader binaryItemReader(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{stepExecutionContext['startBlock']}") Integer startBlock,
+            @Value("#{stepExecutionContext['endBlock']}") Integer endBlock
+    ) {
+        return new RestaurantBinaryItemReader(
+                properties.getBinary().resolveFile(datasetRegistry.get(dataset).getName()), startBlock, endBlock);
     }
 
     /**
      * 데이터베이스 Writer Bean
-     * 배치 INSERT로 성능 최적화
+     * 배치 INSERT로 성능 최적화, 데이터셋의 적재 테이블로 INSERT (이력 모드에서는 적재일 파티션과 교체할 스테이징 테이블)
+     * 중복 키는 청크를 반씩 나누어 재시도하여 해당 행만 스킵 (청크 전체를 아이템 단위로 다시 처리하지 않음)
+     */
+    @Bean
+    @StepScope
+    public ItemWriter<Restaurant> restaurantItemWriter(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{jobExecutionContext['history.loadDate']}") String loadDate,
+            PipelineEventListener pipelineEventListener,
+            RestaurantSummaryCollector summaryCollector,
+            RowCountContribution rowCountContribution
+    ) {
+        ImporterProperties.Dataset definition = datasetRegistry.get(dataset);
+        BisectingJdbcBatchItemWriter<Restaurant> writer = restaurantJdbcItemWriter.createWriter(
+                targetTable(definition), historyLoadDate(loadDate), summaryCollector(summaryCollector));
+        writer.setSkipLimit(SKIP_LIMIT);
+        writer.setRowCountContribution(rowCountContribution);
+        writer.registerSkipListener(pipelineEventListener);
+        return writer;
+    }
+
+    /**
+     * 컬럼형 청크 Writer Bean (importer.columnar.enabled)
      */
     @Bean
-    public ItemWriter<Restaurant> restaurantItemWriter() {
-        return restaurantJdbcItemWriter.createWriter();
+    @StepScope
+    public ItemWriter<RestaurantColumnChunk> columnChunkWriter(
+            @Value("#{jobParameters['dataset']}") String dataset,
+            @Value("#{jobExecutionContext['history.loadDate']}") String loadDate,
+            RestaurantSummaryCollector summaryCollector,
+            RowCountContribution rowCountContribution
+    ) {
+        ImporterProperties.Dataset definition = datasetRegistry.get(dataset);
+        RestaurantColumnChunkWriter writer = restaurantJdbcItemWriter.createColumnChunkWriter(
+                targetTable(definition), historyLoadDate(loadDate), summaryCollector(summaryCollector));
+        writer.setSkipLimit(SKIP_LIMIT);
+        writer.setRowCountContribution(rowCountContribution);
+        return writer;
+    }
+
+    /**
+     * 키 정렬 모드에서는 정렬 결과 파일, 아니면 Job 파라미터 inputFile (없으면 데이터셋 기본 위치)
+     */
+    private static String resolveInputFile(String sortedInputFile, String inputFile) {
+        return sortedInputFile != null ? sortedInputFile : inputFile;
+    }
+
+    private boolean isReplay() {
+        return properties.getBinary().getMode() == ImporterProperties.Binary.Mode.REPLAY;
+    }
+
+    /**
+     * Writer의 적재 테이블, 이력 모드에서는 적재 완료 후 적재일 파티션과 교체할 스테이징 테이블
+     */
+    private String targetTable(ImporterProperties.Dataset dataset) {
+        return properties.getHistory().isEnabled()
+                ? RestaurantHistoryService.stagingTable(dataset)
+                : dataset.getTargetTable();
+    }
+
+    /**
+     * 이력 모드의 적재일: 준비 Step이 Job ExecutionContext에 저장한 값 (재시작 시에도 최초 실행의 적재일)
+     */
+    private LocalDate historyLoadDate(String loadDate) {
+        if (!properties.getHistory().isEnabled()) {
+            return null;
+        }
+        if (loadDate == null) {
+            throw new IllegalStateException("History load date is missing; restaurantHistoryPrepareStep has not run");
+        }
+        return LocalDate.parse(loadDate);
+    }
+
+    private RestaurantSummaryCollector summaryCollector(RestaurantSummaryCollector summaryCollector) {
+        return properties.getSummary().isEnabled() ? summaryCollector : null;
     }
 
     /**
      * 스레드 풀 설정: 파티션별 병렬 처리를 위한 스레드 관리
-     * 코어 수만큼 스레드를 생성
+     * - PLATFORM: 파티션 수만큼 스레드를 생성
+     * - VIRTUAL: 파티션마다 가상 스레드를 생성하고, JDBC 대기 중에는 캐리어 스레드를 반납
+     *   동시 실행 수는 Hikari 커넥션 풀 크기에서 동시 실행 Job 수만큼 뺀 값으로 제한하여 커넥션 대기로 인한 타임아웃을 방지
      */
     @Bean
-    public TaskExecutor taskExecutor() {
+    public TaskExecutor taskExecutor(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        ImporterProperties.Executor executorProperties = properties.getExecutor();
+        int gridSize = executorProperties.resolveGridSize();
+
+        if (executorProperties.getMode() == ImporterProperties.Executor.Mode.VIRTUAL) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual thread mode requires Java 21+, current: " + Runtime.version());
+            }
+            int concurrencyLimit = executorProperties.resolveConcurrencyLimit(
+                    maximumPoolSize, properties.getRunner().getMaxConcurrentJobs());
+            log.info("가상 스레드 실행 모드 - 파티션 수: {}, 동시 실행 제한: {}", gridSize, concurrencyLimit);
+
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("restaurant-batch-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrencyLimit);
+            return executor;
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(GRID_SIZE);
-        executor.setMaxPoolSize(GRID_SIZE);
+        executor.setCorePoolSize(gridSize);
+        executor.setMaxPoolSize(gridSize);
         executor.setThreadNamePrefix("restaurant-batch-");
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.initialize();
@@ -0,0 +1,161 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 데이터셋 파일을 하나의 JVM에서 동시에 적재하는 Runner
+ *
+ * - 파티션 워커 스레드 풀(taskExecutor)과 Hikari 커넥션 풀은 모든 Job이 공유하는 전역 예산
+ * - 동시에 실행하는 Job 수는 importer.runner.max-concurrent-jobs로 제한
+ * - 파일 크기가 큰 데이터셋부터 시작 (LPT 스케줄링), 마지막에 작은 파일들이 빈 슬롯을 채워 전체 소요 시간 최소화
+ * - 바이너리 재생 모드에서는 CSV 대신 컴파일된 바이너리 행 파일이 있는 데이터셋을 적재
+ * - 모든 Job이 끝난 뒤 하나라도 실패(예외 또는 COMPLETED가 아닌 상태)했으면 예외를 던져 프로세스가 0이 아닌 코드로 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetImportRunner {
+
+    private final JobLauncher jobLauncher;
+    private final Job restaurantCsvToDbJob;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
+
+    /**
+     * 입력 파일이 존재하는 모든 데이터셋을 적재
+     * 한 데이터셋이 실패해도 나머지는 끝까지 적재하고, 마지막에 실패한 데이터셋 목록으로 예외를 던짐
+     */
+    public void runAll(LocalDateTime launchTime) throws InterruptedException {
+        List<SizedDataset> datasets = new ArrayList<>();
+        for (ImporterProperties.Dataset dataset : datasetRegistry.getAll()) {
+            Resource resource = inputResource(dataset);
+            if (!resource.exists()) {
+                log.warn("입력 파일이 없어 데이터셋을 건너뜀 - {}: {}", dataset.getName(), resource.getDescription());
+                continue;
+            }
+            datasets.add(new SizedDataset(dataset, contentLength(resource)));
+        }
+        if (datasets.isEmpty()) {
+            log.warn("적재할 데이터셋이 없습니다.");
+            return;
+        }
+
+        datasets.sort(Comparator.comparingLong(SizedDataset::size).reversed());
+
+        int concurrency = Math.min(properties.getRunner().getMaxConcurrentJobs(), datasets.size());
+        log.info("데이터셋 {}개 적재 시작 - 동시 실행 Job 수: {}", datasets.size(), concurrency);
+
+        ExecutorService launcher = Executors.newFixedThreadPool(concurrency, new CustomizableThreadFactory("dataset-import-"));
+        Map<String, Future<JobExecution>> launches = new LinkedHashMap<>();
+        for (SizedDataset sized : datasets) {
+            String datasetName = sized.dataset().getName();
+            launches.put(datasetName, launcher.submit(() -> run(datasetName, launchTime)));
+        }
+        launcher.shutdown();
+        launcher.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, Future<JobExecution>> launch : launches.entrySet()) {
+            if (!completed(launch.getKey(), launch.getValue())) {
+                failed.add(launch.getKey());
+            }
+        }
+        if (!failed.isEmpty()) {
+            throw new IllegalStateException("Dataset import failed: " + failed);
+        }
+    }
+
+    /**
+     * 단일 데이터셋 적재
+     * 이미 완료된 JobInstance이면 건너뛰고 null을 반환, 그 밖의 실행 실패는 예외로 전파
+     */
+    public JobExecution run(String datasetName, LocalDateTime launchTime) throws JobExecutionException {
+        return launch(datasetName, new JobParametersBuilder()
+                .addString("dataset", datasetName)
+                .addLocalDateTime("launchTime", launchTime)
+                .toJobParameters());
+    }
+
+    /**
+     * 도착한 파일 하나를 적재 (디렉터리 감시 모드)
+     * 파일 경로와 내용 지문(fingerprint)이 JobInstance를 식별하므로, 이미 완료된 동일 파일은 다시 적재되지 않음
+     */
+    public JobExecution run(String datasetName, Path inputFile, String fingerprint) throws JobExecutionException {
+        return launch(datasetName, new JobParametersBuilder()
+                .addString("dataset", datasetName)
+                .addString("inputFile", inputFile.toAbsolutePath().toString())
+                .addString("fingerprint", fingerprint)
+                .addLocalDateTime("launchTime", LocalDateTime.now(), false)
+                .toJobParameters());
+    }
+
+    private JobExecution launch(String datasetName, JobParameters jobParameters) throws JobExecutionException {
+        try {
+            JobExecution execution = jobLauncher.run(restaurantCsvToDbJob, jobParameters);
+            log.info("데이터셋 적재 종료 - {}: {}", datasetName, execution.getStatus());
+            return execution;
+        } catch (JobInstanceAlreadyCompleteException e) {
+            log.info("이미 적재가 완료된 입력이므로 건너뜀 - {}: {}", datasetName, jobParameters);
+            return null;
+        }
+    }
+
+    /**
+     * 적재가 끝난 Job의 성공 여부, 이미 완료되어 건너뛴 데이터셋(null)은 성공으로 봄
+     */
+    private boolean completed(String datasetName, Future<JobExecution> launch) throws InterruptedException {
+        try {
+            JobExecution execution = launch.get();
+            return execution == null || execution.getStatus() == BatchStatus.COMPLETED;
+        } catch (ExecutionException e) {
+            log.error("데이터셋 적재 실패 - {}", datasetName, e.getCause());
+            return false;
+        }
+    }
+
+    private Resource inputResource(ImporterProperties.Dataset dataset) {
+        ImporterProperties.Binary binary = properties.getBinary();
+        return binary.getMode() == ImporterProperties.Binary.Mode.REPLAY
+                ? new FileSystemResource(binary.resolveFile(dataset.getName()))
+                : datasetRegistry.getResource(dataset);
+    }
+
+    private long contentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record SizedDataset(ImporterProperties.Dataset dataset, long size) {
+    }
+}
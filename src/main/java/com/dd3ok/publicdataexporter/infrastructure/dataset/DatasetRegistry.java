@@ -0,0 +1,79 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 설정된 데이터셋 정의를 이름으로 조회하는 레지스트리
+ * Job 파라미터 dataset이 없으면 기본 데이터셋(restaurant)을 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class DatasetRegistry {
+
+    public static final String DEFAULT_DATASET = "restaurant";
+
+    // 테이블/컬럼명은 SQL에 직접 들어가므로 식별자 형식만 허용
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private final ImporterProperties properties;
+    private final ResourceLoader resourceLoader;
+
+    public ImporterProperties.Dataset get(String name) {
+        String datasetName = StringUtils.hasText(name) ? name : DEFAULT_DATASET;
+        ImporterProperties.Dataset dataset = properties.getDatasets().stream()
+                .filter(candidate -> datasetName.equals(candidate.getName()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown dataset: " + datasetName));
+
+        Assert.isTrue(IDENTIFIER.matcher(dataset.getTargetTable()).matches(),
+                "Invalid target table: " + dataset.getTargetTable());
+        Assert.isTrue(IDENTIFIER.matcher(dataset.getKeyColumn()).matches(),
+                "Invalid key column: " + dataset.getKeyColumn());
+        return dataset;
+    }
+
+    public List<ImporterProperties.Dataset> getAll() {
+        return properties.getDatasets();
+    }
+
+    public Resource getResource(ImporterProperties.Dataset dataset) {
+        return resourceLoader.getResource(dataset.getLocation());
+    }
+
+    /**
+     * Job 파라미터 inputFile이 있으면 해당 파일을, 없으면 데이터셋의 기본 위치를 반환
+     */
+    public Resource getResource(ImporterProperties.Dataset dataset, String inputFile) {
+        return StringUtils.hasText(inputFile) ? new FileSystemResource(inputFile) : getResource(dataset);
+    }
+
+    /**
+     * 파일명에 해당하는 데이터셋 조회 (디렉터리 감시 모드)
+     */
+    public Optional<ImporterProperties.Dataset> findByFileName(String fileName) {
+        Path path = Path.of(fileName);
+        return properties.getDatasets().stream()
+                .filter(dataset -> FileSystems.getDefault().getPathMatcher("glob:" + filePattern(dataset)).matches(path))
+                .findFirst();
+    }
+
+    private String filePattern(ImporterProperties.Dataset dataset) {
+        if (StringUtils.hasText(dataset.getFilePattern())) {
+            return dataset.getFilePattern();
+        }
+        return StringUtils.getFilename(dataset.getLocation());
+    }
+}
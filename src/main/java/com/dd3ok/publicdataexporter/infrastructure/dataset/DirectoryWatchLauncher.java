@@ -0,0 +1,245 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 입력 디렉터리를 감시하여 새로 도착하거나 변경된 파일마다 적재 Job을 실행하는 장기 실행 모드
+ *
+ * - JVM과 Spring 컨텍스트를 유지하므로 JIT 워밍업, 스레드 풀, 커넥션 풀, MS949 디코딩 표 같은 정적 조회 표가 실행 간에 재사용됨
+ * - 파일 크기가 settle-millis 동안 변하지 않으면 복사가 끝난 것으로 판단하고 적재 시작
+ * - 내용 지문(크기 + CRC32C)이 이전 적재와 같으면 건너뜀, 지문은 Job 파라미터로도 저장되어 재기동 후에도 중복 적재 방지
+ * - 컨텍스트 종료(SIGTERM 등) 시 stop()에서 WatchService를 닫아 감시 루프를 끝내고, 실행 중인 적재가 끝날 때까지 기다림
+ *   (DataSource 등 적재가 사용하는 Bean은 그 뒤에 정리됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DirectoryWatchLauncher implements SmartLifecycle {
+
+    private static final int FINGERPRINT_BUFFER_SIZE = 1024 * 1024;
+
+    private final DatasetImportRunner datasetImportRunner;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
+
+    // 파일별 마지막으로 적재를 시작한 지문
+    private final Map<Path, String> launchedFingerprints = new ConcurrentHashMap<>();
+
+    // 안정화 판단 기준 시각 (테스트에서 고정 시계로 교체)
+    private Clock clock = Clock.systemUTC();
+
+    private volatile boolean running;
+    private volatile WatchService watchService;
+    private final CountDownLatch watchFinished = new CountDownLatch(1);
+
+    void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void start() {
+        running = true; // 감시는 watch()를 호출한 스레드에서 실행
+    }
+
+    /**
+     * WatchService를 닫아 감시 루프를 끝내고, 루프가 실행 중인 적재를 기다린 뒤 반환할 때까지 대기
+     */
+    @Override
+    public void stop() {
+        running = false;
+        WatchService service = watchService;
+        if (service == null) {
+            return; // 감시 전이면 watch()가 running을 보고 바로 끝남
+        }
+        try {
+            service.close();
+            watchFinished.await();
+        } catch (IOException e) {
+            log.warn("입력 디렉터리 감시 종료 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * stop()이 호출되거나 인터럽트될 때까지 디렉터리를 감시 (호출 스레드를 점유)
+     */
+    public void watch() throws IOException, InterruptedException {
+        ImporterProperties.Watch watch = properties.getWatch();
+        Path directory = Path.of(watch.getDirectory()).toAbsolutePath();
+        Files.createDirectories(directory);
+
+        ExecutorService launcher = Executors.newFixedThreadPool(
+                properties.getRunner().getMaxConcurrentJobs(), new CustomizableThreadFactory("dataset-watch-"));
+        Map<Path, PendingFile> pending = new HashMap<>();
+
+        try (WatchService watchService = directory.getFileSystem().newWatchService()) {
+            this.watchService = watchService;
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            log.info("입력 디렉터리 감시 시작 - {}", directory);
+
+            // 기동 전에 도착한 파일도 처리
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile).forEach(file -> track(pending, file));
+            }
+
+            while (running && !Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.poll(watch.getSettleMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            continue;
+                        }
+                        track(pending, directory.resolve((Path) event.context()));
+                    }
+                    key.reset();
+                }
+                launchSettledFiles(pending, launcher, watch.getSettleMillis());
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.info("입력 디렉터리 감시 종료, 실행 중인 적재 대기");
+        } finally {
+            try {
+                launcher.shutdown();
+                launcher.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+            } finally {
+                watchFinished.countDown();
+            }
+        }
+    }
+
+    /**
+     * 데이터셋 파일이면 현재 크기와 시각을 기록하여 안정화 대기 목록에 추가
+     */
+    void track(Map<Path, PendingFile> pending, Path file) {
+        if (datasetRegistry.findByFileName(file.getFileName().toString()).isEmpty()) {
+            log.debug("데이터셋과 일치하지 않는 파일 무시 - {}", file);
+            return;
+        }
+        pending.put(file, new PendingFile(size(file), clock.millis()));
+    }
+
+    /**
+     * 크기가 settleMillis 동안 변하지 않은 파일을 대기 목록에서 꺼내 적재 시작
+     */
+    void launchSettledFiles(Map<Path, PendingFile> pending, Executor launcher, long settleMillis) {
+        long now = clock.millis();
+        Iterator<Map.Entry<Path, PendingFile>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, PendingFile> entry = iterator.next();
+            Path file = entry.getKey();
+            PendingFile state = entry.getValue();
+
+            long currentSize = size(file);
+            if (currentSize < 0) {
+                iterator.remove(); // 삭제됨
+                continue;
+            }
+            if (currentSize != state.size()) {
+                entry.setValue(new PendingFile(currentSize, now)); // 아직 복사 중
+                continue;
+            }
+            if (now - state.lastChangedAt() < settleMillis) {
+                continue;
+            }
+
+            iterator.remove();
+            launcher.execute(() -> launch(file));
+        }
+    }
+
+    private void launch(Path file) {
+        String datasetName = datasetRegistry.findByFileName(file.getFileName().toString())
+                .map(ImporterProperties.Dataset::getName)
+                .orElseThrow();
+        try {
+            String fingerprint = fingerprint(file);
+            if (fingerprint.equals(launchedFingerprints.put(file, fingerprint))) {
+                log.info("내용이 변경되지 않은 파일이므로 건너뜀 - {}", file);
+                return;
+            }
+            log.info("파일 도착 - {} (데이터셋: {}, 지문: {})", file, datasetName, fingerprint);
+            if (!load(datasetName, file, fingerprint)) {
+                launchedFingerprints.remove(file, fingerprint); // 실패한 파일은 다시 도착하면 재시도
+            }
+        } catch (IOException e) {
+            log.error("파일 지문 계산 실패 - {}", file, e);
+        }
+    }
+
+    /**
+     * 적재 실패를 감시 루프로 전파하지 않고 완료 여부만 반환 (이미 완료된 입력이면 null이므로 완료로 봄)
+     */
+    private boolean load(String datasetName, Path file, String fingerprint) {
+        try {
+            JobExecution execution = datasetImportRunner.run(datasetName, file, fingerprint);
+            return execution == null || execution.getStatus() == BatchStatus.COMPLETED;
+        } catch (JobExecutionException | RuntimeException e) {
+            log.error("파일 적재 실패 - {}", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * 파일 크기와 전체 내용의 CRC32C로 지문 생성
+     */
+    private String fingerprint(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[FINGERPRINT_BUFFER_SIZE];
+        long size = 0;
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+                size += read;
+            }
+        }
+        return size + "-" + Long.toHexString(crc.getValue());
+    }
+
+    private long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    record PendingFile(long size, long lastChangedAt) {
+    }
+}
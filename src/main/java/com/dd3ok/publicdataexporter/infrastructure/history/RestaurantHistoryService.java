@@ -0,0 +1,243 @@
+package com.dd3ok.publicdataexporter.infrastructure.history;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 적재일(load_date) 기준 LIST 파티션 이력 테이블 관리 (importer.history.enabled, MySQL 전용)
+ *
+ * - 적재 Job마다 launchTime의 날짜를 적재일로 하여 파티션이 없는 스테이징 테이블({targetTable}_history_staging)에 적재하고,
+ *   적재가 끝나면 EXCHANGE PARTITION으로 {targetTable}_history의 해당 적재일 파티션과 교체
+ * - 같은 날짜로 다시 적재해도 게시 중인 파티션은 교체 전까지 그대로이므로, 적재 중이거나 적재가 실패해도 현재 뷰는 비지 않음
+ * - 보관 기간이 지난 적재일은 DROP PARTITION으로 삭제 (행 단위 DELETE 없이 메타데이터 변경만 발생)
+ * - {targetTable}_current 뷰는 최신 적재일 리터럴로 재생성하여 최신 파티션만 읽도록 함 (파티션 프루닝)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantHistoryService {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    /**
+     * 파티션 테이블의 고유 키는 파티션 컬럼(load_date)을 포함해야 하므로 (키 컬럼, load_date)를 기본 키로 사용
+     */
+    private static final String CREATE_TABLE_SQL =
+            """
+            CREATE TABLE IF NOT EXISTS %1$s
+            (
+                load_date                        DATE         NOT NULL,
+                management_number                VARCHAR(50)  NOT NULL,
+                licensing_date                   DATE,
+                close_date                       DATE,
+                location_phone_number            VARCHAR(20),
+                location_area                    DOUBLE,
+                location_zip_code                VARCHAR(10),
+                full_address                     VARCHAR(500),
+                road_name_address                VARCHAR(500),
+                road_name_zip_code               VARCHAR(10),
+                business_name                    VARCHAR(255),
+                last_modified_at                 DATETIME(6),
+                data_update_type                 VARCHAR(1),
+                data_updated_at                  DATETIME(6),
+                industry_type                    VARCHAR(100),
+                coordinate_x                     DECIMAL(19, 9),
+                coordinate_y                     DECIMAL(19, 9),
+                open_auth_code                   VARCHAR(50),
+                male_worker_count                INT,
+                female_worker_count              INT,
+                surrounding_area_type            VARCHAR(100),
+                grade_type                       VARCHAR(100),
+                water_facility_type              VARCHAR(100),
+                building_ownership_type          VARCHAR(100),
+                monthly_rent                     INT,
+                multi_use_business_yn            VARCHAR(10),
+                total_facility_size              DOUBLE,
+                traditional_business_number      VARCHAR(100),
+                traditional_business_main_food   VARCHAR(255),
+                latitude                         DOUBLE,
+                longitude                        DOUBLE,
+                geohash                          VARCHAR(12),
+
+                PRIMARY KEY (%2$s, load_date),
+                INDEX idx_%1$s_geohash (geohash)
+            )
+            PARTITION BY LIST COLUMNS (load_date) (
+                PARTITION %3$s VALUES IN ('%4$s')
+            )
+            """;
+
+    private static final String SELECT_PARTITIONS_SQL =
+            """
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_NAME DESC
+            """;
+
+    private static final String TABLE_EXISTS_SQL =
+            """
+            SELECT COUNT(*) FROM information_schema.TABLES
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+            """;
+
+    private final DataSource dataSource;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
+
+    /**
+     * 이력 테이블 이름
+     */
+    public static String historyTable(ImporterProperties.Dataset dataset) {
+        return dataset.getTargetTable() + "_history";
+    }
+
+    /**
+     * 적재일 파티션과 교체할 스테이징 테이블 이름 (적재 Writer의 대상)
+     */
+    public static String stagingTable(ImporterProperties.Dataset dataset) {
+        return historyTable(dataset) + "_staging";
+    }
+
+    /**
+     * 최신 적재일만 조회하는 뷰 이름
+     */
+    public static String currentView(ImporterProperties.Dataset dataset) {
+        return dataset.getTargetTable() + "_current";
+    }
+
+    /**
+     * Job 파라미터 launchTime의 날짜, 없으면 오늘
+     */
+    public static LocalDate loadDate(Object launchTime) {
+        return launchTime instanceof LocalDateTime dateTime ? dateTime.toLocalDate() : LocalDate.now();
+    }
+
+    /**
+     * 적재일 파티션 준비: 테이블이 없으면 해당 파티션으로 생성, 파티션이 없으면 빈 파티션 추가,
+     * 이미 있으면 (재적재) 게시 중인 행을 그대로 두고 빈 스테이징 테이블만 새로 만듦
+     * @return 파티션 이름
+     */
+    public String preparePartition(String datasetName, LocalDate loadDate) {
+        if (!isMySql()) {
+            throw new IllegalStateException("History mode requires MySQL partitioning");
+        }
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        String table = historyTable(dataset);
+        String staging = stagingTable(dataset);
+        String partition = partitionName(loadDate);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_TABLE_SQL.formatted(table, dataset.getKeyColumn(), partition, loadDate));
+
+        if (partitions(jdbcTemplate, table).contains(partition)) {
+            log.info("이력 파티션 재적재 - {}: {} ({}), 적재 완료 후 교체", table, partition, loadDate);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE %s ADD PARTITION (PARTITION %s VALUES IN ('%s'))"
+                    .formatted(table, partition, loadDate));
+            log.info("이력 파티션 추가 - {}: {} ({})", table, partition, loadDate);
+        }
+
+        // EXCHANGE PARTITION 대상은 같은 구조의 파티션 없는 테이블이어야 함
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + staging);
+        jdbcTemplate.execute("CREATE TABLE %s LIKE %s".formatted(staging, table));
+        jdbcTemplate.execute("ALTER TABLE %s REMOVE PARTITIONING".formatted(staging));
+        return partition;
+    }
+
+    /**
+     * 적재 완료 후 스테이징 테이블을 적재일 파티션과 교체 (교체 후 스테이징 테이블에는 교체된 이전 행이 남음)
+     *
+     * EXCHANGE PARTITION은 DDL이라 JobRepository 트랜잭션에 참여하지 않으므로, 호출자는 교체 여부를 Step ExecutionContext에
+     * 기록하여 커밋한 뒤에 publish()를 호출해야 함 (재시작 시 교체 기록이 있으면 다시 호출하지 않음)
+     * 교체 직후 ExecutionContext 커밋 전에 프로세스가 중단되면 재시작 시 다시 교체되어 이전 행이 게시되므로,
+     * 이 경우 적재 Job을 새로 실행해야 함
+     * @return 교체했으면 true, 스테이징 테이블이 없으면 false
+     */
+    public boolean exchange(String datasetName, LocalDate loadDate) {
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        String table = historyTable(dataset);
+        String staging = stagingTable(dataset);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (!tableExists(jdbcTemplate, staging)) {
+            return false;
+        }
+        String partition = partitionName(loadDate);
+        jdbcTemplate.execute("ALTER TABLE %s EXCHANGE PARTITION %s WITH TABLE %s".formatted(table, partition, staging));
+        log.info("이력 파티션 교체 - {}: {} ({})", table, partition, loadDate);
+        return true;
+    }
+
+    /**
+     * exchange() 후 교체된 이전 행(스테이징 테이블)을 삭제하고, 현재 뷰를 최신 적재일로 교체하고,
+     * 보관 개수를 넘는 오래된 파티션 삭제 (모두 여러 번 실행해도 결과가 같으므로 재시작해도 안전)
+     * @return 삭제한 파티션 이름
+     */
+    public List<String> publish(String datasetName) {
+        int retention = properties.getHistory().getRetention();
+        if (retention < 1) {
+            throw new IllegalStateException("importer.history.retention must be at least 1: " + retention);
+        }
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        String table = historyTable(dataset);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + stagingTable(dataset)); // 교체된 이전 행
+
+        List<String> partitions = partitions(jdbcTemplate, table);
+        if (partitions.isEmpty()) {
+            throw new IllegalStateException("History table has no partitions: " + table);
+        }
+
+        LocalDate latest = LocalDate.parse(partitions.get(0), PARTITION_NAME);
+        jdbcTemplate.execute("CREATE OR REPLACE VIEW %s AS SELECT * FROM %s WHERE load_date = '%s'"
+                .formatted(currentView(dataset), table, latest));
+
+        List<String> expired = partitions.subList(Math.min(retention, partitions.size()), partitions.size());
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE %s DROP PARTITION %s".formatted(table, String.join(", ", expired)));
+        }
+        log.info("이력 게시 완료 - {}: 최신 적재일 {}, 보관 {}개, 삭제 파티션 {}",
+                table, latest, partitions.size() - expired.size(), expired);
+        return List.copyOf(expired);
+    }
+
+    private static String partitionName(LocalDate loadDate) {
+        return PARTITION_NAME.format(loadDate);
+    }
+
+    private static boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        Integer count = jdbcTemplate.queryForObject(TABLE_EXISTS_SQL, Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 적재일 파티션 목록 (최신순), 파티션 이름이 pyyyyMMdd이므로 이름순이 날짜순
+     */
+    private List<String> partitions(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList(SELECT_PARTITIONS_SQL, String.class, table).stream()
+                .filter(name -> name.matches("p\\d{8}"))
+                .toList();
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 청크 하나의 트랜잭션 전체 (읽기 + 변환 + 쓰기 + 커밋)
+ * 스킵 건수는 쓰기 이후에 확정되므로 청크 단위 이벤트에 기록
+ */
+@Name("com.dd3ok.publicdataexporter.Chunk")
+@Label("Chunk")
+@Description("One chunk transaction: read, process, write and commit")
+class ChunkEvent extends ChunkPhaseEvent {
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytes;
+
+    @Label("Filtered Rows")
+    long filterCount;
+
+    @Label("Read Skips")
+    long readSkipCount;
+
+    @Label("Process Skips")
+    long processSkipCount;
+
+    @Label("Write Skips")
+    long writeSkipCount;
+
+    @Label("Failed")
+    boolean failed;
+}
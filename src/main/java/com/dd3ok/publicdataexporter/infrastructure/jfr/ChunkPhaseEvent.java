@@ -0,0 +1,17 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+
+/**
+ * 청크 단위 이벤트 공통 필드
+ */
+abstract class ChunkPhaseEvent extends PipelineEvent {
+
+    @Label("Chunk Index")
+    @Description("Zero-based chunk number within the partition")
+    long chunkIndex;
+
+    @Label("Rows")
+    long rowCount;
+}
@@ -0,0 +1,17 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 청크의 변환 단계 (RestaurantItemProcessor 또는 RestaurantColumnChunkProcessor)
+ */
+@Name("com.dd3ok.publicdataexporter.ChunkProcess")
+@Label("Chunk Process")
+@Description("Processor phase of a chunk")
+class ChunkProcessEvent extends ChunkPhaseEvent {
+
+    @Label("Filtered Rows")
+    long filterCount;
+}
@@ -0,0 +1,14 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 청크의 읽기 단계 (파일 읽기 + 디코딩 + 토큰화 + 매핑)
+ */
+@Name("com.dd3ok.publicdataexporter.ChunkRead")
+@Label("Chunk Read")
+@Description("Reader phase of a chunk")
+class ChunkReadEvent extends ChunkPhaseEvent {
+}
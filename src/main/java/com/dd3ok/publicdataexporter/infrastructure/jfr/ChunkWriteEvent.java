@@ -0,0 +1,17 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 청크의 쓰기 단계 (JDBC 배치 INSERT), 스킵 재시도 중의 개별 쓰기도 각각 기록
+ */
+@Name("com.dd3ok.publicdataexporter.ChunkWrite")
+@Label("Chunk Write")
+@Description("Writer phase of a chunk, JDBC batch insert")
+class ChunkWriteEvent extends ChunkPhaseEvent {
+
+    @Label("Failed")
+    boolean failed;
+}
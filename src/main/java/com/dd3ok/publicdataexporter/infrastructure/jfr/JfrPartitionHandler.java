@@ -0,0 +1,64 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.EventType;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.concurrent.FutureTask;
+
+/**
+ * 파티션 실행마다 PartitionEvent를 기록하는 TaskExecutorPartitionHandler
+ * 스레드 풀 대기 시간(queueWait)과 파티션 실행 구간을 구분하여, 느린 파티션이 대기 때문인지 처리 때문인지 확인 가능
+ */
+public class JfrPartitionHandler extends TaskExecutorPartitionHandler {
+
+    private static final EventType PARTITION_TYPE = EventType.getEventType(PartitionEvent.class);
+
+    private final String byteOffsetKey;
+
+    /**
+     * @param byteOffsetKey Reader가 ExecutionContext에 저장하는 바이트 오프셋 키
+     */
+    public JfrPartitionHandler(String byteOffsetKey) {
+        this.byteOffsetKey = byteOffsetKey;
+    }
+
+    @Override
+    protected FutureTask<StepExecution> createTask(Step step, StepExecution stepExecution) {
+        long submittedAt = System.nanoTime();
+        FutureTask<StepExecution> task = super.createTask(step, stepExecution);
+        return new FutureTask<>(() -> {
+            if (!PARTITION_TYPE.isEnabled()) {
+                task.run();
+                return task.get();
+            }
+
+            PartitionEvent event = new PartitionEvent();
+            event.queueWait = System.nanoTime() - submittedAt;
+            event.begin();
+            try {
+                task.run();
+                return task.get();
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    ExecutionContext context = stepExecution.getExecutionContext();
+                    event.dataset = stepExecution.getJobParameters().getString("dataset");
+                    event.partition = stepExecution.getStepName();
+                    event.startLine = context.getLong("startLine", -1);
+                    event.endLine = context.getLong("endLine", -1);
+                    event.readCount = stepExecution.getReadCount();
+                    event.writeCount = stepExecution.getWriteCount();
+                    event.filterCount = stepExecution.getFilterCount();
+                    event.skipCount = stepExecution.getSkipCount();
+                    event.bytes = Math.max(0, context.getLong(byteOffsetKey, 0)
+                            - context.getLong(PipelineEventListener.START_OFFSET_KEY, 0));
+                    event.status = stepExecution.getStatus().name();
+                    event.commit();
+                }
+            }
+        });
+    }
+}
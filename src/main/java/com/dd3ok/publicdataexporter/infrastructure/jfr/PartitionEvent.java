@@ -0,0 +1,46 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * 파티션 하나의 실행 구간 (Worker Step 시작부터 종료까지)
+ */
+@Name("com.dd3ok.publicdataexporter.Partition")
+@Label("Partition")
+@Description("Lifecycle of one partitioned worker step execution")
+class PartitionEvent extends PipelineEvent {
+
+    @Label("Start Line")
+    long startLine;
+
+    @Label("End Line")
+    long endLine;
+
+    @Label("Queue Wait")
+    @Description("Time between partition submission and start on a worker thread")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    @Label("Read Count")
+    long readCount;
+
+    @Label("Write Count")
+    long writeCount;
+
+    @Label("Filter Count")
+    long filterCount;
+
+    @Label("Skip Count")
+    long skipCount;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytes;
+
+    @Label("Status")
+    String status;
+}
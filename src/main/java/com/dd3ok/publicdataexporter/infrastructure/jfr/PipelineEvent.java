@@ -0,0 +1,23 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * 적재 파이프라인 JFR 이벤트 공통 필드
+ * 스택 트레이스는 수집하지 않아 이벤트당 비용을 최소화
+ */
+@Category({"Public Data Exporter", "Batch"})
+@StackTrace(false)
+abstract class PipelineEvent extends Event {
+
+    @Label("Dataset")
+    String dataset;
+
+    @Label("Partition")
+    @Description("Worker step execution name, e.g. restaurantWorkerStep:partition3")
+    String partition;
+}
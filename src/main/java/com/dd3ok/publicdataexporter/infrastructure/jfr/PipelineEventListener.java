@@ -0,0 +1,299 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import jdk.jfr.EventType;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Supplier;
+
+/**
+ * Worker Step의 청크 단계별 JFR 이벤트를 기록하는 리스너 (모든 파티션이 공유하는 싱글톤)
+ *
+ * - 청크 시작 ~ 첫 변환 전: ChunkReadEvent, 첫 변환 ~ 쓰기 전: ChunkProcessEvent, 쓰기: ChunkWriteEvent
+ * - 청크 전체(커밋 포함)는 ChunkEvent로 기록하며 바이트 수와 스킵 건수를 함께 남김
+ * - Reader/Processor/Writer 코드는 건드리지 않고 Step 콜백에서만 기록
+ * - 파티션 Step은 한 스레드에서 끝까지 실행되므로 파티션별 상태는 스레드에 두고 beforeStep/afterStep에서 만들고 지움
+ *   (StepScope 프록시를 거치지 않으므로 행마다 스코프 조회가 없음)
+ * - 행 단위 콜백은 캐시한 EventType의 isEnabled()를 먼저 확인하여, 녹화 중이 아니면 상태도 조회하지 않음
+ *   녹화 중이 아니면 이벤트 객체를 만들지 않고 ExecutionContext에도 쓰지 않음
+ */
+public class PipelineEventListener implements StepExecutionListener, ChunkListener,
+        ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object>,
+        SkipListener<Object, Object> {
+
+    /**
+     * 파티션 첫 청크 시작 시점의 바이트 오프셋 (PartitionEvent의 바이트 수 계산용, 재시작 시에도 최초 값 유지)
+     */
+    static final String START_OFFSET_KEY = "partition.start.offset";
+
+    private static final EventType CHUNK_TYPE = EventType.getEventType(ChunkEvent.class);
+    private static final EventType READ_TYPE = EventType.getEventType(ChunkReadEvent.class);
+    private static final EventType PROCESS_TYPE = EventType.getEventType(ChunkProcessEvent.class);
+    private static final EventType WRITE_TYPE = EventType.getEventType(ChunkWriteEvent.class);
+    private static final EventType PARTITION_TYPE = EventType.getEventType(PartitionEvent.class);
+
+    private final String byteOffsetKey;
+    private final ThreadLocal<PartitionState> states = ThreadLocal.withInitial(PartitionState::new);
+
+    /**
+     * @param byteOffsetKey Reader가 ExecutionContext에 저장하는 바이트 오프셋 키
+     */
+    public PipelineEventListener(String byteOffsetKey) {
+        this.byteOffsetKey = byteOffsetKey;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        PartitionState state = new PartitionState();
+        String dataset = stepExecution.getJobParameters().getString("dataset");
+        state.stepExecution = stepExecution;
+        state.dataset = StringUtils.hasText(dataset) ? dataset : DatasetRegistry.DEFAULT_DATASET;
+        state.partition = stepExecution.getStepName();
+        states.set(state);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        states.remove(); // 풀 스레드가 다음 파티션을 실행하기 전에 정리
+        return null;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        PartitionState state = states.get();
+        state.chunkIndex++;
+        state.rowsRead = 0;
+        state.rowsProcessed = 0;
+        state.rowsFiltered = 0;
+        state.readSkips = 0;
+        state.processSkips = 0;
+        state.writeSkips = 0;
+        // 시작 오프셋은 PartitionEvent만 사용하므로 파티션 이벤트를 녹화할 때만 저장
+        if (state.chunkIndex == 0 && state.stepExecution != null && PARTITION_TYPE.isEnabled()
+                && !state.stepExecution.getExecutionContext().containsKey(START_OFFSET_KEY)) {
+            state.stepExecution.getExecutionContext().putLong(START_OFFSET_KEY, currentOffset(state));
+        }
+
+        state.chunkEvent = begin(state, CHUNK_TYPE, ChunkEvent::new);
+        if (state.chunkEvent != null) {
+            state.chunkStartOffset = currentOffset(state);
+        }
+        state.readEvent = begin(state, READ_TYPE, ChunkReadEvent::new);
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        if (!CHUNK_TYPE.isEnabled() && !READ_TYPE.isEnabled()) {
+            return;
+        }
+        states.get().rowsRead += rows(item);
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        if (!READ_TYPE.isEnabled() && !PROCESS_TYPE.isEnabled()) {
+            return; // 시작한 읽기 이벤트가 남아 있으면 beforeWrite/afterChunk에서 닫음
+        }
+        PartitionState state = states.get();
+        endRead(state);
+        if (state.processEvent == null) {
+            state.processEvent = begin(state, PROCESS_TYPE, ChunkProcessEvent::new);
+        }
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        if (!CHUNK_TYPE.isEnabled() && !PROCESS_TYPE.isEnabled()) {
+            return;
+        }
+        PartitionState state = states.get();
+        int rows = rows(item);
+        state.rowsProcessed += rows;
+        if (result == null) {
+            state.rowsFiltered += rows;
+        } else if (result instanceof RestaurantColumnChunk chunk) {
+            state.rowsFiltered += chunk.filteredCount();
+        }
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        PartitionState state = states.get();
+        endRead(state);
+        endProcess(state);
+        state.writeEvent = begin(state, WRITE_TYPE, ChunkWriteEvent::new);
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        PartitionState state = states.get();
+        if (state.chunkEvent != null) {
+            for (Object item : items) {
+                if (item instanceof RestaurantColumnChunk chunk) {
+                    state.writeSkips += chunk.skippedCount(); // 컬럼형 청크는 Writer가 직접 중복 행을 건너뜀
+                }
+            }
+        }
+        endWrite(state, items, false);
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        endWrite(states.get(), items, true);
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        if (CHUNK_TYPE.isEnabled()) {
+            states.get().readSkips++;
+        }
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        if (CHUNK_TYPE.isEnabled()) {
+            states.get().processSkips++;
+        }
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        if (CHUNK_TYPE.isEnabled()) {
+            states.get().writeSkips++;
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        endChunk(states.get(), false);
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        endChunk(states.get(), true);
+    }
+
+    private static void endRead(PartitionState state) {
+        if (state.readEvent != null) {
+            state.readEvent.rowCount = state.rowsRead;
+            commit(state.readEvent);
+            state.readEvent = null;
+        }
+    }
+
+    private static void endProcess(PartitionState state) {
+        if (state.processEvent != null) {
+            state.processEvent.rowCount = state.rowsProcessed;
+            state.processEvent.filterCount = state.rowsFiltered;
+            commit(state.processEvent);
+            state.processEvent = null;
+        }
+    }
+
+    private static void endWrite(PartitionState state, Chunk<?> items, boolean failed) {
+        if (state.writeEvent != null) {
+            long rows = 0;
+            for (Object item : items) {
+                rows += rows(item);
+            }
+            state.writeEvent.rowCount = rows;
+            state.writeEvent.failed = failed;
+            commit(state.writeEvent);
+            state.writeEvent = null;
+        }
+    }
+
+    private void endChunk(PartitionState state, boolean failed) {
+        // 마지막 청크처럼 변환/쓰기 없이 끝난 단계도 닫음
+        endRead(state);
+        endProcess(state);
+        if (state.chunkEvent != null) {
+            ChunkEvent event = state.chunkEvent;
+            event.rowCount = state.rowsRead;
+            event.bytes = Math.max(0, currentOffset(state) - state.chunkStartOffset);
+            event.filterCount = state.rowsFiltered;
+            event.readSkipCount = state.readSkips;
+            event.processSkipCount = state.processSkips;
+            event.writeSkipCount = state.writeSkips;
+            event.failed = failed;
+            commit(event);
+            state.chunkEvent = null;
+        }
+    }
+
+    /**
+     * 이벤트 타입이 녹화 중일 때만 이벤트를 생성하여 시작, 아니면 null
+     */
+    private static <E extends ChunkPhaseEvent> E begin(PartitionState state, EventType type, Supplier<E> factory) {
+        if (!type.isEnabled()) {
+            return null;
+        }
+        E event = factory.get();
+        event.dataset = state.dataset;
+        event.partition = state.partition;
+        event.chunkIndex = state.chunkIndex;
+        event.begin();
+        return event;
+    }
+
+    private static void commit(PipelineEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    /**
+     * Reader가 마지막으로 저장한 바이트 오프셋 (커밋 시점마다 갱신)
+     */
+    private long currentOffset(PartitionState state) {
+        if (state.stepExecution == null) {
+            return 0;
+        }
+        ExecutionContext executionContext = state.stepExecution.getExecutionContext();
+        return executionContext.containsKey(byteOffsetKey) ? executionContext.getLong(byteOffsetKey) : 0;
+    }
+
+    /**
+     * 컬럼형 청크는 아이템 하나가 여러 행
+     */
+    private static int rows(Object item) {
+        return item instanceof RestaurantColumnChunk chunk ? chunk.size() : 1;
+    }
+
+    /**
+     * 파티션 Step 하나의 청크 상태 (Step을 실행하는 스레드에 보관)
+     */
+    private static class PartitionState {
+
+        private StepExecution stepExecution;
+        private String dataset;
+        private String partition;
+        private long chunkIndex = -1;
+
+        private ChunkEvent chunkEvent;
+        private ChunkReadEvent readEvent;
+        private ChunkProcessEvent processEvent;
+        private ChunkWriteEvent writeEvent;
+
+        private long chunkStartOffset;
+        private long rowsRead;
+        private long rowsProcessed;
+        private long rowsFiltered;
+        private long readSkips;
+        private long processSkips;
+        private long writeSkips;
+    }
+}
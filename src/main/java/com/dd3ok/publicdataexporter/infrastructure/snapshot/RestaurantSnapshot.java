@@ -0,0 +1,274 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.dd3ok.publicdataexporter.infrastructure.snapshot.RestaurantSnapshotFormat.*;
+
+/**
+ * 메모리 매핑된 읽기 전용 음식점 스냅샷
+ *
+ * - 파일을 매핑만 하므로 역직렬화 없이 즉시 조회 가능 (페이지는 OS가 필요할 때 적재)
+ * - 모든 조회는 절대 위치 읽기만 사용하므로 여러 스레드에서 동시에 사용해도 안전
+ * - 결과 객체(RestaurantView)는 조회된 행에 대해서만 생성
+ */
+public final class RestaurantSnapshot {
+
+    private final int rowCount;
+    private final ByteBuffer heap;
+    private final DoubleBuffer latitude;
+    private final DoubleBuffer longitude;
+    private final IntBuffer managementNumber;
+    private final IntBuffer businessName;
+    private final IntBuffer roadNameAddress;
+    private final IntBuffer openAuthCode;
+    private final IntBuffer industryType;
+    private final IntBuffer licensingDate;
+    private final IntBuffer closeDate;
+    private final IntBuffer openAuthCodeDictionary;
+    private final IntBuffer industryTypeDictionary;
+    private final IntBuffer businessNameIndex;
+    private final IntBuffer openAuthCodePostingStart;
+    private final IntBuffer openAuthCodePosting;
+    private final IntBuffer industryTypePostingStart;
+    private final IntBuffer industryTypePosting;
+
+    // 사전 크기는 수백 개 수준이므로 열 때 역방향 맵을 생성
+    private final Map<String, Integer> openAuthCodes;
+    private final Map<String, Integer> industryTypes;
+
+    private RestaurantSnapshot(MappedByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a restaurant snapshot file or unsupported version");
+        }
+        rowCount = buffer.getInt(8);
+        int openAuthCodeCount = buffer.getInt(12);
+        int industryTypeCount = buffer.getInt(16);
+
+        int[] offsets = new int[SECTION_COUNT + 1];
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            offsets[section] = (int) buffer.getLong(20 + section * Long.BYTES);
+        }
+        offsets[SECTION_COUNT] = buffer.capacity();
+
+        heap = buffer.slice(offsets[HEAP], offsets[HEAP + 1] - offsets[HEAP]);
+        latitude = section(buffer, offsets, LATITUDE).asDoubleBuffer();
+        longitude = section(buffer, offsets, LONGITUDE).asDoubleBuffer();
+        managementNumber = section(buffer, offsets, MANAGEMENT_NUMBER).asIntBuffer();
+        businessName = section(buffer, offsets, BUSINESS_NAME).asIntBuffer();
+        roadNameAddress = section(buffer, offsets, ROAD_NAME_ADDRESS).asIntBuffer();
+        openAuthCode = section(buffer, offsets, OPEN_AUTH_CODE).asIntBuffer();
+        industryType = section(buffer, offsets, INDUSTRY_TYPE).asIntBuffer();
+        licensingDate = section(buffer, offsets, LICENSING_DATE).asIntBuffer();
+        closeDate = section(buffer, offsets, CLOSE_DATE).asIntBuffer();
+        openAuthCodeDictionary = section(buffer, offsets, OPEN_AUTH_CODE_DICTIONARY).asIntBuffer();
+        industryTypeDictionary = section(buffer, offsets, INDUSTRY_TYPE_DICTIONARY).asIntBuffer();
+        businessNameIndex = section(buffer, offsets, BUSINESS_NAME_INDEX).asIntBuffer();
+        openAuthCodePostingStart = section(buffer, offsets, OPEN_AUTH_CODE_POSTING_START).asIntBuffer();
+        openAuthCodePosting = section(buffer, offsets, OPEN_AUTH_CODE_POSTING).asIntBuffer();
+        industryTypePostingStart = section(buffer, offsets, INDUSTRY_TYPE_POSTING_START).asIntBuffer();
+        industryTypePosting = section(buffer, offsets, INDUSTRY_TYPE_POSTING).asIntBuffer();
+
+        openAuthCodes = dictionary(openAuthCodeDictionary, openAuthCodeCount);
+        industryTypes = dictionary(industryTypeDictionary, industryTypeCount);
+    }
+
+    /**
+     * 스냅샷 파일을 읽기 전용으로 매핑
+     */
+    public static RestaurantSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new RestaurantSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * 관리번호로 조회 (행이 관리번호 순으로 정렬되어 있으므로 이진 탐색)
+     */
+    public Optional<RestaurantView> findByManagementNumber(String key) {
+        byte[] target = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int compared = compare(managementNumber, mid, target, target.length);
+            if (compared < 0) {
+                low = mid + 1;
+            } else if (compared > 0) {
+                high = mid - 1;
+            } else {
+                return Optional.of(view(mid));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 개방자치단체코드의 영업 중(폐업일자 없음) 음식점 조회
+     */
+    public List<RestaurantView> findOpenByOpenAuthCode(String code, int limit) {
+        Integer dictionaryCode = openAuthCodes.get(code);
+        List<RestaurantView> result = new ArrayList<>();
+        if (dictionaryCode == null) {
+            return result;
+        }
+        int end = openAuthCodePostingStart.get(dictionaryCode + 1);
+        for (int i = openAuthCodePostingStart.get(dictionaryCode); i < end && result.size() < limit; i++) {
+            int row = openAuthCodePosting.get(i);
+            if (closeDate.get(row) == NULL_INT) {
+                result.add(view(row));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 업태구분명으로 조회
+     */
+    public List<RestaurantView> findByIndustryType(String type, int limit) {
+        Integer dictionaryCode = industryTypes.get(type);
+        List<RestaurantView> result = new ArrayList<>();
+        if (dictionaryCode == null) {
+            return result;
+        }
+        int end = Math.min(industryTypePostingStart.get(dictionaryCode + 1),
+                industryTypePostingStart.get(dictionaryCode) + limit);
+        for (int i = industryTypePostingStart.get(dictionaryCode); i < end; i++) {
+            result.add(view(industryTypePosting.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * 사업장명 접두어 조회 (사업장명 정렬 인덱스에서 하한 탐색 후 접두어가 일치하는 동안 순회)
+     */
+    public List<RestaurantView> findByBusinessNamePrefix(String prefix, int limit) {
+        byte[] target = prefix.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(businessName, businessNameIndex.get(mid), target, target.length) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        List<RestaurantView> result = new ArrayList<>();
+        for (int i = low; i < rowCount && result.size() < limit; i++) {
+            int row = businessNameIndex.get(i);
+            if (!startsWith(businessName, row, target)) {
+                break;
+            }
+            result.add(view(row));
+        }
+        return result;
+    }
+
+    private RestaurantView view(int row) {
+        return new RestaurantView(
+                string(managementNumber, row),
+                string(businessName, row),
+                string(roadNameAddress, row),
+                dictionaryValue(openAuthCodeDictionary, openAuthCode.get(row)),
+                dictionaryValue(industryTypeDictionary, industryType.get(row)),
+                date(licensingDate.get(row)),
+                date(closeDate.get(row)),
+                coordinate(latitude.get(row)),
+                coordinate(longitude.get(row)));
+    }
+
+    private String string(IntBuffer positions, int row) {
+        return heapString(positions.get(row * 2), positions.get(row * 2 + 1));
+    }
+
+    private String dictionaryValue(IntBuffer dictionary, int code) {
+        return code == NULL_CODE ? null : heapString(dictionary.get(code * 2), dictionary.get(code * 2 + 1));
+    }
+
+    private String heapString(int offset, int length) {
+        if (length == NULL_INT) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        heap.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 행의 문자열과 대상 바이트를 부호 없는 바이트 순서로 비교 (객체 생성 없음), null은 빈 문자열로 취급
+     */
+    private int compare(IntBuffer positions, int row, byte[] target, int targetLength) {
+        int offset = positions.get(row * 2);
+        int length = Math.max(positions.get(row * 2 + 1), 0);
+        int common = Math.min(length, targetLength);
+        for (int i = 0; i < common; i++) {
+            int compared = Integer.compare(heap.get(offset + i) & 0xFF, target[i] & 0xFF);
+            if (compared != 0) {
+                return compared;
+            }
+        }
+        return Integer.compare(length, targetLength);
+    }
+
+    private boolean startsWith(IntBuffer positions, int row, byte[] prefix) {
+        int length = positions.get(row * 2 + 1);
+        if (length < prefix.length) {
+            return false;
+        }
+        int offset = positions.get(row * 2);
+        for (int i = 0; i < prefix.length; i++) {
+            if (heap.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Map<String, Integer> dictionary(IntBuffer dictionary, int count) {
+        Map<String, Integer> codes = new HashMap<>(count * 2);
+        for (int code = 0; code < count; code++) {
+            codes.put(dictionaryValue(dictionary, code), code);
+        }
+        return codes;
+    }
+
+    private static ByteBuffer section(MappedByteBuffer buffer, int[] offsets, int section) {
+        return buffer.slice(offsets[section], offsets[section + 1] - offsets[section]);
+    }
+
+    private static LocalDate date(int epochDay) {
+        return epochDay == NULL_INT ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    private static Double coordinate(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    /**
+     * 조회 결과
+     */
+    public record RestaurantView(String managementNumber, String businessName, String roadNameAddress,
+                                 String openAuthCode, String industryType,
+                                 LocalDate licensingDate, LocalDate closeDate,
+                                 Double latitude, Double longitude) {
+    }
+}
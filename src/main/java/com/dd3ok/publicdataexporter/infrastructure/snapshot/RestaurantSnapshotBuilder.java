@@ -0,0 +1,339 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntBinaryOperator;
+
+import static com.dd3ok.publicdataexporter.infrastructure.snapshot.RestaurantSnapshotFormat.*;
+
+/**
+ * 적재된 레코드를 모아 읽기 전용 스냅샷 파일을 생성
+ *
+ * - 행을 관리번호 오름차순으로 정렬하여 행 번호 자체가 관리번호 정렬 인덱스가 되도록 구성
+ * - openAuthCode, industryType은 사전 코드(int)로 저장하고 코드별 포스팅 리스트(정렬된 행 번호) 생성
+ * - 날짜는 epoch day(int), 좌표는 double 컬럼으로 저장
+ * - 임시 파일에 기록한 뒤 원자적으로 교체하여, 읽는 쪽이 항상 완전한 파일만 보도록 보장
+ *
+ * 수집 중에도 파일과 같은 컬럼 배열에 추가하므로 행마다 객체를 보관하지 않음
+ * (문자열 컬럼은 하나의 UTF-8 바이트 힙에 이어 붙이고 행별 오프셋/길이만 기록)
+ * 정렬은 기록 시점에 행 번호 순열(int[])만 정렬하여 수행
+ */
+public class RestaurantSnapshotBuilder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 문자열 컬럼 (행마다 STRING_COLUMNS개씩 오프셋/길이, 길이 -1은 null)
+    private static final int STRING_COLUMNS = 3;
+    private static final int MANAGEMENT_NUMBER_COLUMN = 0;
+    private static final int BUSINESS_NAME_COLUMN = 1;
+    private static final int ROAD_NAME_ADDRESS_COLUMN = 2;
+
+    private int size;
+    private byte[] heap = new byte[INITIAL_CAPACITY * 64];
+    private int heapSize;
+    private int[] stringOffsets = new int[INITIAL_CAPACITY * STRING_COLUMNS];
+    private int[] stringLengths = new int[INITIAL_CAPACITY * STRING_COLUMNS];
+    private int[] openAuthCodeColumn = new int[INITIAL_CAPACITY];
+    private int[] industryTypeColumn = new int[INITIAL_CAPACITY];
+    private int[] licensingDates = new int[INITIAL_CAPACITY];
+    private int[] closeDates = new int[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+
+    private final Dictionary openAuthCodes = new Dictionary();
+    private final Dictionary industryTypes = new Dictionary();
+
+    public void add(String managementNumber, String businessName, String roadNameAddress,
+                    String openAuthCode, String industryType,
+                    LocalDate licensingDate, LocalDate closeDate,
+                    Double latitude, Double longitude) {
+        if (size == openAuthCodeColumn.length) {
+            grow();
+        }
+        int row = size++;
+        appendString(row, MANAGEMENT_NUMBER_COLUMN, managementNumber);
+        appendString(row, BUSINESS_NAME_COLUMN, businessName);
+        appendString(row, ROAD_NAME_ADDRESS_COLUMN, roadNameAddress);
+        openAuthCodeColumn[row] = openAuthCodes.code(openAuthCode);
+        industryTypeColumn[row] = industryTypes.code(industryType);
+        licensingDates[row] = epochDay(licensingDate);
+        closeDates[row] = epochDay(closeDate);
+        latitudes[row] = latitude != null ? latitude : Double.NaN;
+        longitudes[row] = longitude != null ? longitude : Double.NaN;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 스냅샷 파일 기록 (임시 파일 기록 후 원자적 교체)
+     */
+    public void writeTo(Path file) throws IOException {
+        int n = size;
+        // order[i]: 관리번호 순서 i번째 행의 추가 순서 번호
+        int[] order = sortedIndexes(n, (a, b) -> compareString(MANAGEMENT_NUMBER_COLUMN, a, b));
+        int[] nameIndex = sortedIndexes(n,
+                (a, b) -> compareString(BUSINESS_NAME_COLUMN, order[a], order[b]));
+        Postings authPostings = postings(openAuthCodes.size(), openAuthCodeColumn, order);
+        Postings industryPostings = postings(industryTypes.size(), industryTypeColumn, order);
+
+        // 섹션 시작 위치 계산
+        long[] sizes = new long[SECTION_COUNT];
+        sizes[LATITUDE] = (long) n * Double.BYTES;
+        sizes[LONGITUDE] = (long) n * Double.BYTES;
+        sizes[MANAGEMENT_NUMBER] = (long) n * 2 * Integer.BYTES;
+        sizes[BUSINESS_NAME] = (long) n * 2 * Integer.BYTES;
+        sizes[ROAD_NAME_ADDRESS] = (long) n * 2 * Integer.BYTES;
+        sizes[OPEN_AUTH_CODE] = (long) n * Integer.BYTES;
+        sizes[INDUSTRY_TYPE] = (long) n * Integer.BYTES;
+        sizes[LICENSING_DATE] = (long) n * Integer.BYTES;
+        sizes[CLOSE_DATE] = (long) n * Integer.BYTES;
+        sizes[OPEN_AUTH_CODE_DICTIONARY] = (long) openAuthCodes.size() * 2 * Integer.BYTES;
+        sizes[INDUSTRY_TYPE_DICTIONARY] = (long) industryTypes.size() * 2 * Integer.BYTES;
+        sizes[BUSINESS_NAME_INDEX] = (long) n * Integer.BYTES;
+        sizes[OPEN_AUTH_CODE_POSTING_START] = (long) authPostings.start().length * Integer.BYTES;
+        sizes[OPEN_AUTH_CODE_POSTING] = (long) n * Integer.BYTES;
+        sizes[INDUSTRY_TYPE_POSTING_START] = (long) industryPostings.start().length * Integer.BYTES;
+        sizes[INDUSTRY_TYPE_POSTING] = (long) n * Integer.BYTES;
+        sizes[HEAP] = heapSize();
+
+        long[] offsets = new long[SECTION_COUNT];
+        long position = HEADER_SIZE;
+        for (int section = 0; section < SECTION_COUNT; section++) {
+            offsets[section] = position;
+            position += sizes[section];
+        }
+        if (position > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot exceeds 2GB mapping limit: " + position + " bytes");
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 20))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(n);
+            out.writeInt(openAuthCodes.size());
+            out.writeInt(industryTypes.size());
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            out.write(new byte[HEADER_SIZE - out.size()]);
+
+            for (int row : order) out.writeDouble(latitudes[row]);
+            for (int row : order) out.writeDouble(longitudes[row]);
+
+            // 문자열 위치: HEAP에 관리번호 순서대로 행마다 (관리번호, 사업장명, 도로명주소) 기록 후 사전 문자열 기록
+            int heapOffset = 0;
+            int[] fileOffsets = new int[n * STRING_COLUMNS];
+            for (int i = 0; i < n; i++) {
+                for (int column = 0; column < STRING_COLUMNS; column++) {
+                    fileOffsets[i * STRING_COLUMNS + column] = heapOffset;
+                    heapOffset += Math.max(0, stringLengths[order[i] * STRING_COLUMNS + column]);
+                }
+            }
+            for (int column = 0; column < STRING_COLUMNS; column++) {
+                for (int i = 0; i < n; i++) {
+                    int length = stringLengths[order[i] * STRING_COLUMNS + column];
+                    out.writeInt(fileOffsets[i * STRING_COLUMNS + column]);
+                    out.writeInt(length >= 0 ? length : NULL_INT);
+                }
+            }
+
+            for (int row : order) out.writeInt(openAuthCodeColumn[row]);
+            for (int row : order) out.writeInt(industryTypeColumn[row]);
+            for (int row : order) out.writeInt(licensingDates[row]);
+            for (int row : order) out.writeInt(closeDates[row]);
+
+            for (byte[] value : openAuthCodes.values()) {
+                writePosition(out, heapOffset, value);
+                heapOffset += value.length;
+            }
+            for (byte[] value : industryTypes.values()) {
+                writePosition(out, heapOffset, value);
+                heapOffset += value.length;
+            }
+
+            for (int row : nameIndex) out.writeInt(row);
+            for (int start : authPostings.start()) out.writeInt(start);
+            for (int row : authPostings.rows()) out.writeInt(row);
+            for (int start : industryPostings.start()) out.writeInt(start);
+            for (int row : industryPostings.rows()) out.writeInt(row);
+
+            for (int row : order) {
+                for (int column = 0; column < STRING_COLUMNS; column++) {
+                    int length = stringLengths[row * STRING_COLUMNS + column];
+                    if (length > 0) {
+                        out.write(heap, stringOffsets[row * STRING_COLUMNS + column], length);
+                    }
+                }
+            }
+            for (byte[] value : openAuthCodes.values()) out.write(value);
+            for (byte[] value : industryTypes.values()) out.write(value);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 사전 코드별 행 번호 목록 (counting sort, 관리번호 순서의 행 번호 오름차순)
+     */
+    private static Postings postings(int dictionarySize, int[] codes, int[] order) {
+        int[] start = new int[dictionarySize + 1];
+        int n = order.length;
+        for (int row : order) {
+            int code = codes[row];
+            if (code != NULL_CODE) {
+                start[code + 1]++;
+            }
+        }
+        for (int code = 0; code < dictionarySize; code++) {
+            start[code + 1] += start[code];
+        }
+        int[] next = Arrays.copyOf(start, dictionarySize);
+        int[] postingRows = new int[n];
+        for (int i = 0; i < n; i++) {
+            int code = codes[order[i]];
+            if (code != NULL_CODE) {
+                postingRows[next[code]++] = i;
+            }
+        }
+        return new Postings(start, postingRows);
+    }
+
+    private long heapSize() {
+        long size = heapSize;
+        for (byte[] value : openAuthCodes.values()) size += value.length;
+        for (byte[] value : industryTypes.values()) size += value.length;
+        return size;
+    }
+
+    /**
+     * 문자열 컬럼 값을 바이트 힙에 이어 붙이고 위치 기록
+     */
+    private void appendString(int row, int column, String value) {
+        int slot = row * STRING_COLUMNS + column;
+        stringOffsets[slot] = heapSize;
+        if (value == null) {
+            stringLengths[slot] = -1;
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (heapSize + bytes.length > heap.length) {
+            long capacity = Math.max((long) heap.length * 2, (long) heapSize + bytes.length);
+            if (capacity > Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("Snapshot string heap exceeds 2GB");
+            }
+            heap = Arrays.copyOf(heap, (int) capacity);
+        }
+        System.arraycopy(bytes, 0, heap, heapSize, bytes.length);
+        stringLengths[slot] = bytes.length;
+        heapSize += bytes.length;
+    }
+
+    private void grow() {
+        int capacity = openAuthCodeColumn.length * 2;
+        stringOffsets = Arrays.copyOf(stringOffsets, capacity * STRING_COLUMNS);
+        stringLengths = Arrays.copyOf(stringLengths, capacity * STRING_COLUMNS);
+        openAuthCodeColumn = Arrays.copyOf(openAuthCodeColumn, capacity);
+        industryTypeColumn = Arrays.copyOf(industryTypeColumn, capacity);
+        licensingDates = Arrays.copyOf(licensingDates, capacity);
+        closeDates = Arrays.copyOf(closeDates, capacity);
+        latitudes = Arrays.copyOf(latitudes, capacity);
+        longitudes = Arrays.copyOf(longitudes, capacity);
+    }
+
+    /**
+     * 두 행의 문자열 컬럼을 UTF-8 바이트의 부호 없는 사전순으로 비교 (null은 빈 문자열과 같게 봄)
+     */
+    private int compareString(int column, int a, int b) {
+        int aSlot = a * STRING_COLUMNS + column;
+        int bSlot = b * STRING_COLUMNS + column;
+        int aFrom = stringOffsets[aSlot];
+        int bFrom = stringOffsets[bSlot];
+        return Arrays.compareUnsigned(heap, aFrom, aFrom + Math.max(0, stringLengths[aSlot]),
+                heap, bFrom, bFrom + Math.max(0, stringLengths[bSlot]));
+    }
+
+    /**
+     * 0..n-1 순열을 comparator 순서로 정렬 (안정 병합 정렬, 행 번호를 박싱하지 않음)
+     */
+    static int[] sortedIndexes(int n, IntBinaryOperator comparator) {
+        int[] indexes = new int[n];
+        for (int i = 0; i < n; i++) {
+            indexes[i] = i;
+        }
+        int[] buffer = new int[n];
+        for (int width = 1; width < n; width *= 2) {
+            for (int from = 0; from < n - width; from += 2 * width) {
+                int middle = from + width;
+                int to = Math.min(from + 2 * width, n);
+                if (comparator.applyAsInt(indexes[middle - 1], indexes[middle]) <= 0) {
+                    continue; // 이미 정렬된 구간
+                }
+                int left = from, right = middle, target = from;
+                while (left < middle && right < to) {
+                    buffer[target++] = comparator.applyAsInt(indexes[right], indexes[left]) < 0
+                            ? indexes[right++] : indexes[left++];
+                }
+                while (left < middle) buffer[target++] = indexes[left++];
+                while (right < to) buffer[target++] = indexes[right++];
+                System.arraycopy(buffer, from, indexes, from, to - from);
+            }
+        }
+        return indexes;
+    }
+
+    private static void writePosition(DataOutputStream out, int offset, byte[] value) throws IOException {
+        out.writeInt(offset);
+        out.writeInt(value != null ? value.length : NULL_INT);
+    }
+
+    private static byte[] utf8(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NULL_INT;
+    }
+
+    private record Postings(int[] start, int[] rows) {
+    }
+
+    /**
+     * 문자열 -> 사전 코드 (등장 순서대로 0부터 부여)
+     */
+    private static class Dictionary {
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+
+        int code(String value) {
+            if (value == null) {
+                return NULL_CODE;
+            }
+            return codes.computeIfAbsent(value, key -> {
+                values.add(utf8(key));
+                return values.size() - 1;
+            });
+        }
+
+        int size() {
+            return values.size();
+        }
+
+        List<byte[]> values() {
+            return values;
+        }
+    }
+}
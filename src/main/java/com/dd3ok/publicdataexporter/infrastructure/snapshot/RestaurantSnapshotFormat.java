@@ -0,0 +1,48 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+/**
+ * 스냅샷 파일 레이아웃 상수
+ *
+ * 헤더: MAGIC, VERSION, rowCount, openAuthCode 사전 크기, industryType 사전 크기, 섹션별 시작 위치(long)
+ * 섹션: 행 번호는 관리번호(UTF-8 바이트) 오름차순 순위
+ * - 컬럼: 위도/경도(double), 문자열 위치(offset, length), 사전 코드, 날짜(epoch day)
+ * - 인덱스: 사업장명 정렬 행 번호, openAuthCode/industryType별 포스팅 리스트
+ * - HEAP: 모든 문자열의 UTF-8 바이트
+ */
+final class RestaurantSnapshotFormat {
+
+    static final int MAGIC = 0x52534E50; // "RSNP"
+    static final int VERSION = 1;
+
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final int NULL_CODE = -1;
+
+    static final int LATITUDE = 0;
+    static final int LONGITUDE = 1;
+    static final int MANAGEMENT_NUMBER = 2;
+    static final int BUSINESS_NAME = 3;
+    static final int ROAD_NAME_ADDRESS = 4;
+    static final int OPEN_AUTH_CODE = 5;
+    static final int INDUSTRY_TYPE = 6;
+    static final int LICENSING_DATE = 7;
+    static final int CLOSE_DATE = 8;
+    static final int OPEN_AUTH_CODE_DICTIONARY = 9;
+    static final int INDUSTRY_TYPE_DICTIONARY = 10;
+    static final int BUSINESS_NAME_INDEX = 11;
+    static final int OPEN_AUTH_CODE_POSTING_START = 12;
+    static final int OPEN_AUTH_CODE_POSTING = 13;
+    static final int INDUSTRY_TYPE_POSTING_START = 14;
+    static final int INDUSTRY_TYPE_POSTING = 15;
+    static final int HEAP = 16;
+    static final int SECTION_COUNT = 17;
+
+    // 5개의 int + 섹션 위치, double 섹션 정렬을 위해 8바이트 배수로 맞춤
+    static final int HEADER_SIZE = align8(5 * Integer.BYTES + SECTION_COUNT * Long.BYTES);
+
+    private RestaurantSnapshotFormat() {
+    }
+
+    static int align8(int size) {
+        return (size + 7) & ~7;
+    }
+}
@@ -0,0 +1,203 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 스냅샷 조회 API (JDK 내장 HTTP 서버, importer.snapshot.http-port가 0보다 클 때만 기동)
+ *
+ * - GET /snapshots/{dataset}/restaurants/{managementNumber}
+ * - GET /snapshots/{dataset}/restaurants?openAuthCode=...   (영업 중인 음식점)
+ * - GET /snapshots/{dataset}/restaurants?industryType=...
+ * - GET /snapshots/{dataset}/restaurants?namePrefix=...
+ * - 목록 조회는 limit 파라미터로 건수 제한 (기본 100)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSnapshotHttpServer implements SmartLifecycle {
+
+    private static final String CONTEXT_PATH = "/snapshots/";
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final RestaurantSnapshotService snapshotService;
+    private final ImporterProperties properties;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    @Override
+    public void start() {
+        ImporterProperties.Snapshot snapshot = properties.getSnapshot();
+        if (!snapshot.isEnabled() || snapshot.getHttpPort() <= 0) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(snapshot.getHttpPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.createContext(CONTEXT_PATH, this::handle);
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        server.setExecutor(executor);
+        server.start();
+        log.info("스냅샷 조회 API 시작 - port: {}", snapshot.getHttpPort());
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, "{\"error\":\"method not allowed\"}");
+                return;
+            }
+            // {dataset}/restaurants[/{managementNumber}]
+            String[] path = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length()).split("/");
+            if (path.length < 2 || !"restaurants".equals(path[1])) {
+                respond(exchange, 404, "{\"error\":\"not found\"}");
+                return;
+            }
+
+            Optional<RestaurantSnapshot> snapshot = snapshotService.get(path[0]);
+            if (snapshot.isEmpty()) {
+                respond(exchange, 404, "{\"error\":\"snapshot not built\"}");
+                return;
+            }
+
+            if (path.length == 3) {
+                Optional<RestaurantSnapshot.RestaurantView> view = snapshot.get().findByManagementNumber(decode(path[2]));
+                if (view.isEmpty()) {
+                    respond(exchange, 404, "{\"error\":\"not found\"}");
+                } else {
+                    respond(exchange, 200, toJson(view.get()));
+                }
+                return;
+            }
+
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            int limit = query.containsKey("limit") ? Integer.parseInt(query.get("limit")) : DEFAULT_LIMIT;
+            List<RestaurantSnapshot.RestaurantView> views;
+            if (query.containsKey("openAuthCode")) {
+                views = snapshot.get().findOpenByOpenAuthCode(query.get("openAuthCode"), limit);
+            } else if (query.containsKey("industryType")) {
+                views = snapshot.get().findByIndustryType(query.get("industryType"), limit);
+            } else if (query.containsKey("namePrefix")) {
+                views = snapshot.get().findByBusinessNamePrefix(query.get("namePrefix"), limit);
+            } else {
+                respond(exchange, 400, "{\"error\":\"openAuthCode, industryType or namePrefix required\"}");
+                return;
+            }
+            respond(exchange, 200, toJson(views));
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, "{\"error\":" + quote(e.getMessage()) + "}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(decode(pair.substring(0, separator)), decode(pair.substring(separator + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String toJson(List<RestaurantSnapshot.RestaurantView> views) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < views.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(toJson(views.get(i)));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String toJson(RestaurantSnapshot.RestaurantView view) {
+        return "{\"managementNumber\":" + quote(view.managementNumber())
+                + ",\"businessName\":" + quote(view.businessName())
+                + ",\"roadNameAddress\":" + quote(view.roadNameAddress())
+                + ",\"openAuthCode\":" + quote(view.openAuthCode())
+                + ",\"industryType\":" + quote(view.industryType())
+                + ",\"licensingDate\":" + quote(view.licensingDate())
+                + ",\"closeDate\":" + quote(view.closeDate())
+                + ",\"latitude\":" + view.latitude()
+                + ",\"longitude\":" + view.longitude()
+                + "}";
+    }
+
+    private static String quote(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String text = value.toString();
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
@@ -0,0 +1,128 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import com.dd3ok.publicdataexporter.infrastructure.history.RestaurantHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 데이터셋별 읽기 전용 스냅샷 관리
+ *
+ * - 적재 Job 마지막 단계에서 적재 테이블을 한 번 스트리밍하여 스냅샷 파일을 재생성
+ * - 재생성이 끝나면 참조만 교체하므로 조회 중인 요청은 이전 스냅샷으로 끝까지 처리됨
+ * - 기동 시에는 기존 스냅샷 파일을 매핑만 하므로 DB 조회 없이 즉시 조회 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSnapshotService {
+
+    private static final String SELECT_SQL =
+            """
+            SELECT %s, business_name, road_name_address, open_auth_code, industry_type,
+                   licensing_date, close_date, latitude, longitude
+            FROM %s
+            """;
+
+    private final DataSource dataSource;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
+
+    private final Map<String, RestaurantSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    /**
+     * 데이터셋의 스냅샷 조회, 메모리에 없으면 기존 스냅샷 파일을 매핑
+     */
+    public Optional<RestaurantSnapshot> get(String datasetName) {
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        RestaurantSnapshot snapshot = snapshots.computeIfAbsent(dataset.getName(), name -> {
+            Path file = snapshotFile(name);
+            if (!Files.exists(file)) {
+                return null;
+            }
+            try {
+                return RestaurantSnapshot.open(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * 적재 테이블 전체를 읽어 스냅샷 파일을 재생성하고 교체
+     * @return 스냅샷 행 수
+     */
+    public int rebuild(String datasetName) throws IOException {
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        RestaurantSnapshotBuilder builder = new RestaurantSnapshotBuilder();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 스트리밍 (그 외에는 전체를 메모리에 적재)
+        jdbcTemplate.setFetchSize(isMySql() ? Integer.MIN_VALUE : 10000);
+        // 이력 모드에서는 최신 적재일 파티션만 읽는 현재 뷰에서 생성
+        String source = properties.getHistory().isEnabled()
+                ? RestaurantHistoryService.currentView(dataset)
+                : dataset.getTargetTable();
+        jdbcTemplate.query(SELECT_SQL.formatted(dataset.getKeyColumn(), source), (ResultSet rs) -> {
+            builder.add(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getString(5),
+                    toLocalDate(rs.getDate(6)),
+                    toLocalDate(rs.getDate(7)),
+                    getDouble(rs, 8),
+                    getDouble(rs, 9));
+        });
+
+        Path file = snapshotFile(dataset.getName());
+        Files.createDirectories(file.getParent());
+        builder.writeTo(file);
+        snapshots.put(dataset.getName(), RestaurantSnapshot.open(file));
+
+        log.info("스냅샷 생성 완료 - {}: {}건 ({})", dataset.getName(), builder.size(), file);
+        return builder.size();
+    }
+
+    private Path snapshotFile(String datasetName) {
+        return Path.of(properties.getSnapshot().getDirectory()).toAbsolutePath().resolve(datasetName + ".snapshot");
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private static Double getDouble(ResultSet rs, int column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
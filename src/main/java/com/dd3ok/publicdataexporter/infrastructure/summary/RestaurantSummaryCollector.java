@@ -0,0 +1,156 @@
+package com.dd3ok.publicdataexporter.infrastructure.summary;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 파티션 하나가 적재한 행의 대시보드 집계 (importer.summary.enabled, 파티션마다 하나, StepScope)
+ *
+ * - Writer가 INSERT에 성공한 행만 집계하므로 중복 키로 스킵되거나 세이브포인트로 되돌린 행은 포함하지 않음
+ * - 청크 트랜잭션 동안의 건수는 따로 모았다가 커밋되면 파티션 합계에 더하고, 롤백되면 버림
+ * - 파티션 합계는 커밋마다 ExecutionContext에 함께 저장되어 (적재 행과 같은 트랜잭션) 재시작 시 이어서 집계
+ * - 파티션은 한 스레드에서만 실행되므로 공유 카운터/락 없이 파티션 전용 HashMap에 누적하고,
+ *   파티션 간 합산은 적재가 끝난 뒤 summary Step에서 한 번만 수행 (merge)
+ */
+public class RestaurantSummaryCollector implements ItemStream {
+
+    /**
+     * 파티션 합계를 저장하는 ExecutionContext 키 (값: "{기준}:{값}" -> 건수)
+     */
+    public static final String TOTALS_KEY = "summary.totals";
+
+    /**
+     * 인허가일자가 없는 행의 연도
+     */
+    public static final int UNKNOWN_YEAR = 0;
+
+    private static final char SEPARATOR = ':';
+
+    private final HashMap<String, Long> totals = new HashMap<>();
+    private final Map<RestaurantSummaryDimension, Map<Object, long[]>> pending =
+            new EnumMap<>(RestaurantSummaryDimension.class);
+    private boolean synchronizationRegistered;
+
+    public RestaurantSummaryCollector() {
+        for (RestaurantSummaryDimension dimension : RestaurantSummaryDimension.values()) {
+            pending.put(dimension, new HashMap<>());
+        }
+    }
+
+    /**
+     * 적재에 성공한 행 하나를 현재 청크 트랜잭션의 집계에 추가
+     * @param licensingYear 인허가 연도, 없으면 UNKNOWN_YEAR
+     */
+    public void add(String openAuthCode, String industryType, int licensingYear, boolean closed) {
+        increment(RestaurantSummaryDimension.OPEN_AUTH_CODE, openAuthCode);
+        increment(RestaurantSummaryDimension.INDUSTRY_TYPE, industryType);
+        increment(RestaurantSummaryDimension.STATUS,
+                closed ? RestaurantSummaryDimension.CLOSED : RestaurantSummaryDimension.OPEN);
+        increment(RestaurantSummaryDimension.LICENSING_YEAR, licensingYear);
+
+        registerSynchronization();
+        if (!synchronizationRegistered) {
+            flush(); // 트랜잭션 밖에서 호출되면 바로 반영
+        }
+    }
+
+    private void increment(RestaurantSummaryDimension dimension, Object value) {
+        long[] count = pending.get(dimension).get(value);
+        if (count == null) {
+            pending.get(dimension).put(value, new long[]{1});
+        } else {
+            count[0]++;
+        }
+    }
+
+    private void registerSynchronization() {
+        if (synchronizationRegistered || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronizationRegistered = false;
+                if (status == STATUS_COMMITTED) {
+                    flush();
+                } else {
+                    discard();
+                }
+            }
+        });
+        synchronizationRegistered = true;
+    }
+
+    private void flush() {
+        mergePending(totals);
+        discard();
+    }
+
+    private void discard() {
+        pending.values().forEach(Map::clear);
+    }
+
+    private void mergePending(Map<String, Long> target) {
+        pending.forEach((dimension, counts) -> counts.forEach((value, count) ->
+                target.merge(key(dimension, value), count[0], Long::sum)));
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        totals.clear();
+        if (executionContext.containsKey(TOTALS_KEY)) {
+            merge(totals, executionContext.get(TOTALS_KEY));
+        }
+    }
+
+    /**
+     * 청크 쓰기가 끝나고 커밋 직전에 호출되므로, 커밋될 현재 청크의 집계까지 포함하여 저장
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        HashMap<String, Long> snapshot = new HashMap<>(totals);
+        mergePending(snapshot);
+        executionContext.put(TOTALS_KEY, snapshot);
+    }
+
+    /**
+     * 현재까지 커밋된 파티션 합계
+     */
+    public Map<String, Long> totals() {
+        return Map.copyOf(totals);
+    }
+
+    /**
+     * 파티션 ExecutionContext에 저장된 합계를 target에 더함
+     */
+    public static void merge(Map<String, Long> target, Object partitionTotals) {
+        if (partitionTotals instanceof Map<?, ?> map) {
+            map.forEach((key, count) -> target.merge(key.toString(), ((Number) count).longValue(), Long::sum));
+        }
+    }
+
+    static String key(RestaurantSummaryDimension dimension, Object value) {
+        return dimension.name() + SEPARATOR + (value == null || Objects.equals(value, UNKNOWN_YEAR) ? "" : value);
+    }
+
+    /**
+     * 합계 키에서 집계 기준 추출
+     */
+    public static RestaurantSummaryDimension dimension(String key) {
+        return RestaurantSummaryDimension.valueOf(key.substring(0, key.indexOf(SEPARATOR)));
+    }
+
+    /**
+     * 합계 키에서 집계 값 추출
+     */
+    public static String value(String key) {
+        return key.substring(key.indexOf(SEPARATOR) + 1);
+    }
+}
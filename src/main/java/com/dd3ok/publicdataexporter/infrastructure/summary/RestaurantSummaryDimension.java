@@ -0,0 +1,45 @@
+package com.dd3ok.publicdataexporter.infrastructure.summary;
+
+/**
+ * 대시보드 집계 기준
+ * 값이 없는 행은 빈 문자열로 집계 (요약 테이블 기본 키에 NULL을 둘 수 없음)
+ */
+public enum RestaurantSummaryDimension {
+
+    /**
+     * 개방자치단체코드
+     */
+    OPEN_AUTH_CODE("COALESCE(open_auth_code, '')"),
+
+    /**
+     * 업태구분명
+     */
+    INDUSTRY_TYPE("COALESCE(industry_type, '')"),
+
+    /**
+     * 영업 상태 (폐업일자가 없으면 OPEN, 있으면 CLOSED)
+     */
+    STATUS("CASE WHEN close_date IS NULL THEN '" + RestaurantSummaryDimension.OPEN
+            + "' ELSE '" + RestaurantSummaryDimension.CLOSED + "' END"),
+
+    /**
+     * 인허가 연도
+     */
+    LICENSING_YEAR("COALESCE(CONCAT(YEAR(licensing_date), ''), '')");
+
+    public static final String OPEN = "OPEN";
+    public static final String CLOSED = "CLOSED";
+
+    /**
+     * 적재 테이블에서 같은 값을 계산하는 SQL 식 (요약 테이블 최초 생성 시 GROUP BY로 채울 때 사용)
+     */
+    private final String expression;
+
+    RestaurantSummaryDimension(String expression) {
+        this.expression = expression;
+    }
+
+    public String expression() {
+        return expression;
+    }
+}
@@ -0,0 +1,126 @@
+package com.dd3ok.publicdataexporter.infrastructure.summary;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 적재 중 집계한 건수를 {targetTable}_summary 테이블에 반영 (importer.summary.enabled)
+ *
+ * - 일반 적재: 적재 테이블은 INSERT만 발생하므로 이번 Job에서 새로 적재한 행의 건수를 기존 값에 더하면
+ *   전체 테이블 GROUP BY 결과와 같음 (중복 키로 스킵된 행은 집계에 포함되지 않음)
+ * - 요약 테이블이 비어 있고 적재 테이블에 이전 적재분이 있으면 최초 한 번만 GROUP BY로 채움
+ * - 이력 모드: 적재일 파티션 하나가 현재 데이터이므로 요약 테이블을 이번 Job의 건수로 교체
+ * - 요약 테이블은 schema.sql에서 미리 생성 (Tasklet 트랜잭션 안에서 DDL을 실행하면 암묵적 커밋이 발생하므로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestaurantSummaryService {
+
+    /**
+     * MySQL 8.0.19+의 행 별칭 형식 (VALUES() 함수는 MySQL 8.0.20부터 deprecated)
+     */
+    private static final String UPSERT_SQL =
+            """
+            INSERT INTO %s (dimension, dimension_value, row_count) VALUES (?, ?, ?) AS new
+            ON DUPLICATE KEY UPDATE row_count = row_count + new.row_count
+            """;
+
+    /**
+     * 행 별칭을 지원하지 않는 H2(MODE=MYSQL, 테스트)용 형식
+     */
+    private static final String LEGACY_UPSERT_SQL =
+            """
+            INSERT INTO %s (dimension, dimension_value, row_count) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE row_count = row_count + VALUES(row_count)
+            """;
+
+    private static final String REBUILD_SQL =
+            """
+            INSERT INTO %1$s (dimension, dimension_value, row_count)
+            SELECT '%3$s', %4$s, COUNT(*) FROM %2$s GROUP BY %4$s
+            """;
+
+    private final DataSource dataSource;
+    private final DatasetRegistry datasetRegistry;
+    private final ImporterProperties properties;
+
+    /**
+     * 요약 테이블 이름
+     */
+    public static String summaryTable(ImporterProperties.Dataset dataset) {
+        return dataset.getTargetTable() + "_summary";
+    }
+
+    /**
+     * 집계 결과 반영
+     * @param totals 모든 파티션의 합계 (RestaurantSummaryCollector 키 -> 건수)
+     * @return 반영한 요약 행 수
+     */
+    public int write(String datasetName, Map<String, Long> totals) {
+        ImporterProperties.Dataset dataset = datasetRegistry.get(datasetName);
+        String table = summaryTable(dataset);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        if (properties.getHistory().isEnabled()) {
+            jdbcTemplate.update("DELETE FROM " + table);
+            log.info("요약 테이블 교체 (이력 모드) - {}", table);
+        } else if (isEmpty(jdbcTemplate, table) && hasPreviousRows(jdbcTemplate, dataset, totals)) {
+            return rebuild(jdbcTemplate, table, dataset.getTargetTable());
+        }
+
+        List<Object[]> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, count) -> rows.add(new Object[]{
+                RestaurantSummaryCollector.dimension(key).name(), RestaurantSummaryCollector.value(key), count}));
+        jdbcTemplate.batchUpdate((isMySql() ? UPSERT_SQL : LEGACY_UPSERT_SQL).formatted(table), rows);
+        log.info("요약 테이블 반영 - {}: {}행", table, rows.size());
+        return rows.size();
+    }
+
+    private static boolean isEmpty(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForList("SELECT 1 FROM " + table + " LIMIT 1").isEmpty();
+    }
+
+    /**
+     * 적재 테이블 행 수가 이번 Job에서 적재한 행 수보다 많으면 요약 기능을 켜기 전의 적재분이 있음
+     */
+    private static boolean hasPreviousRows(JdbcTemplate jdbcTemplate, ImporterProperties.Dataset dataset,
+                                           Map<String, Long> totals) {
+        long loaded = totals.entrySet().stream()
+                .filter(entry -> RestaurantSummaryCollector.dimension(entry.getKey()) == RestaurantSummaryDimension.STATUS)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        Long rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + dataset.getTargetTable(), Long.class);
+        return rowCount != null && rowCount > loaded;
+    }
+
+    private static int rebuild(JdbcTemplate jdbcTemplate, String table, String targetTable) {
+        log.info("요약 테이블 최초 생성 - {} 전체 GROUP BY", targetTable);
+        int rows = 0;
+        for (RestaurantSummaryDimension dimension : RestaurantSummaryDimension.values()) {
+            rows += jdbcTemplate.update(REBUILD_SQL.formatted(table, targetTable, dimension.name(), dimension.expression()));
+        }
+        log.info("요약 테이블 반영 - {}: {}행", table, rows);
+        return rows;
+    }
+
+    private boolean isMySql() {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "MySQL".equalsIgnoreCase(productName);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
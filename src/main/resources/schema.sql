@@ -29,7 +29,40 @@ CREATE TABLE IF NOT EXISTS restaurant
     total_facility_size              DOUBLE,
     traditional_business_number      VARCHAR(100),
     traditional_business_main_food   VARCHAR(255),
+    latitude                         DOUBLE,
+    longitude                        DOUBLE,
+    geohash                          VARCHAR(12),
 
     created_at                       DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6),
-    updated_at                       DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)
+    updated_at                       DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+    INDEX idx_restaurant_geohash (geohash)
+);
+
+-- WGS84 위치 (importer.geo.enabled 시 적재), SPATIAL 인덱스로 근접 검색
+CREATE TABLE IF NOT EXISTS restaurant_location
+(
+    management_number                VARCHAR(50)  NOT NULL PRIMARY KEY,
+    location                         POINT SRID 4326 NOT NULL,
+
+    SPATIAL INDEX idx_restaurant_location_location (location)
+);
+
+-- 같은 LOCALDATA 레이아웃을 사용하는 데이터셋 테이블 (importer.datasets)
+CREATE TABLE IF NOT EXISTS snack_restaurant LIKE restaurant;
+CREATE TABLE IF NOT EXISTS snack_restaurant_location LIKE restaurant_location;
+CREATE TABLE IF NOT EXISTS bakery LIKE restaurant;
+CREATE TABLE IF NOT EXISTS bakery_location LIKE restaurant_location;
+
+-- 대시보드 집계 (importer.summary.enabled), 데이터셋마다 {target-table}_summary
+CREATE TABLE IF NOT EXISTS restaurant_summary
+(
+    dimension                        VARCHAR(20)  NOT NULL,
+    dimension_value                  VARCHAR(100) NOT NULL,
+    row_count                        BIGINT       NOT NULL,
+    updated_at                       DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+
+    PRIMARY KEY (dimension, dimension_value)
 );
+CREATE TABLE IF NOT EXISTS snack_restaurant_summary LIKE restaurant_summary;
+CREATE TABLE IF NOT EXISTS bakery_summary LIKE restaurant_summary;
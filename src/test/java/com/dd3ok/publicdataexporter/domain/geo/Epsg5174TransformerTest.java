@@ -0,0 +1,200 @@
+package com.dd3ok.publicdataexporter.domain.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class Epsg5174TransformerTest {
+
+    /**
+     * 약 1m
+     */
+    private static final double TOLERANCE = 1e-5;
+
+    private final Epsg5174Transformer transformer = new Epsg5174Transformer();
+
+    // 기준값: 공개된 EPSG:5174 -> WGS84 좌표쌍을 확보하지 못해, 정의상 확정되는 점과 변환기와 다른 알고리즘으로 계산한 값을 사용
+    // - TM 역투영 급수 대신 정방향 투영 + 자오선 호장 수치 적분
+    // - Bowring 근사 대신 반복법으로 지심좌표 -> 위경도 변환
+    // 데이텀 변환 값은 EPSG:5174 정의(towgs84=-115.80,474.99,674.11,1.16,-2.31,-1.63,6.43)를 그대로 따름
+
+    @Test
+    @DisplayName("투영 원점(200000, 500000)은, 정의상 Bessel 38°N 127°00'10.405\"E를 WGS84로 옮긴 위치로 변환된다")
+    void transform_ConvertsFalseOrigin() {
+        // given
+        double[] x = {200000.0};
+        double[] y = {500000.0};
+        double[] lat = new double[1];
+        double[] lon = new double[1];
+
+        // when
+        transformer.transform(x, y, lat, lon, 1);
+
+        // then
+        double[] expected = Reference.besselToWgs84(38.0, Reference.LON0);
+        assertThat(lat[0]).isCloseTo(expected[0], within(TOLERANCE));
+        assertThat(lon[0]).isCloseTo(expected[1], within(TOLERANCE));
+    }
+
+    @Test
+    @DisplayName("Bessel 위경도를 정방향 TM 투영한 좌표는, 같은 위치의 WGS84 위경도로 변환된다 (중앙 자오선, 부산, 서해, 제주)")
+    void transform_MatchesForwardProjection() {
+        // given: 중앙 자오선 위 35°N, 동쪽으로 약 2° 떨어진 부산, 서쪽으로 약 1° 떨어진 서해, 남쪽 끝 제주
+        double[][] bessel = {{35.0, Reference.LON0}, {35.1, 129.03}, {37.5, 126.0}, {33.5, 126.5}};
+        int count = bessel.length;
+        double[] x = new double[count];
+        double[] y = new double[count];
+        for (int i = 0; i < count; i++) {
+            double[] projected = Reference.project(bessel[i][0], bessel[i][1]);
+            x[i] = projected[0];
+            y[i] = projected[1];
+        }
+        double[] lat = new double[count];
+        double[] lon = new double[count];
+
+        // when
+        transformer.transform(x, y, lat, lon, count);
+
+        // then
+        for (int i = 0; i < count; i++) {
+            double[] expected = Reference.besselToWgs84(bessel[i][0], bessel[i][1]);
+            assertThat(lat[i]).as("lat %s", i).isCloseTo(expected[0], within(TOLERANCE));
+            assertThat(lon[i]).as("lon %s", i).isCloseTo(expected[1], within(TOLERANCE));
+        }
+    }
+
+    @Test
+    @DisplayName("EPSG:5174 좌표가 주어지면, WGS84 위경도로 변환된다")
+    void transform_ConvertsToWgs84() {
+        // given: 부산광역시 중구 중앙동7가 (롯데백화점 광복점) 좌표
+        double[] x = {385590.8147};
+        double[] y = {179553.867};
+        double[] lat = new double[1];
+        double[] lon = new double[1];
+
+        // when
+        transformer.transform(x, y, lat, lon, 1);
+
+        // then: 약 35.0976N, 129.0364E
+        assertThat(lat[0]).isCloseTo(35.0976, within(0.001));
+        assertThat(lon[0]).isCloseTo(129.0364, within(0.001));
+    }
+
+    @Test
+    @DisplayName("좌표가 NaN이면, 변환 결과도 NaN으로 채워진다")
+    void transform_KeepsNaN_WhenCoordinateIsMissing() {
+        // given
+        double[] x = {Double.NaN, 385590.8147};
+        double[] y = {179553.867, 179553.867};
+        double[] lat = new double[2];
+        double[] lon = new double[2];
+
+        // when
+        transformer.transform(x, y, lat, lon, 2);
+
+        // then
+        assertThat(lat[0]).isNaN();
+        assertThat(lon[0]).isNaN();
+        assertThat(lat[1]).isCloseTo(35.0976, within(0.001));
+    }
+
+    @Test
+    @DisplayName("변환한 위경도는 Geohash로 인코딩되고, 인접 지점은 같은 접두어를 가진다")
+    void geohash_SharesPrefix_ForNearbyPoints() {
+        // given: 약 50m 떨어진 두 지점
+        double[] x = {385590.8147, 385630.0};
+        double[] y = {179553.867, 179580.0};
+        double[] lat = new double[2];
+        double[] lon = new double[2];
+        transformer.transform(x, y, lat, lon, 2);
+
+        // when
+        String first = GeoHash.encode(lat[0], lon[0], GeoHash.DEFAULT_PRECISION);
+        String second = GeoHash.encode(lat[1], lon[1], GeoHash.DEFAULT_PRECISION);
+
+        // then
+        assertThat(first).hasSize(GeoHash.DEFAULT_PRECISION).startsWith("wy5z8");
+        assertThat(second.substring(0, 6)).isEqualTo(first.substring(0, 6));
+    }
+
+    /**
+     * 변환기와 독립적으로 구현한 기준 계산 (정방향 TM 투영, 데이텀 변환)
+     */
+    private static final class Reference {
+
+        static final double LON0 = 127.0028902777778;
+        private static final double LAT0 = 38.0;
+
+        private static final double A = 6377397.155;
+        private static final double F = 1 / 299.1528128;
+        private static final double E2 = 2 * F - F * F;
+        private static final double EP2 = E2 / (1 - E2);
+        private static final double WGS84_A = 6378137.0;
+        private static final double WGS84_F = 1 / 298.257223563;
+        private static final double WGS84_E2 = 2 * WGS84_F - WGS84_F * WGS84_F;
+
+        /**
+         * Bessel 위경도 -> EPSG:5174 (x, y), Snyder 정방향 TM 급수
+         */
+        static double[] project(double latitude, double longitude) {
+            double phi = Math.toRadians(latitude);
+            double n = A / Math.sqrt(1 - E2 * Math.sin(phi) * Math.sin(phi));
+            double t = Math.tan(phi) * Math.tan(phi);
+            double c = EP2 * Math.cos(phi) * Math.cos(phi);
+            double a = Math.toRadians(longitude - LON0) * Math.cos(phi);
+            double m = meridianArc(phi) - meridianArc(Math.toRadians(LAT0));
+            double x = 200000.0 + n * (a + (1 - t + c) * Math.pow(a, 3) / 6
+                    + (5 - 18 * t + t * t + 72 * c - 58 * EP2) * Math.pow(a, 5) / 120);
+            double y = 500000.0 + m + n * Math.tan(phi) * (a * a / 2
+                    + (5 - t + 9 * c + 4 * c * c) * Math.pow(a, 4) / 24
+                    + (61 - 58 * t + t * t + 600 * c - 330 * EP2) * Math.pow(a, 6) / 720);
+            return new double[]{x, y};
+        }
+
+        /**
+         * Bessel 위경도 -> 지심좌표 -> Helmert(Position Vector) -> WGS84 위경도 (반복법)
+         */
+        static double[] besselToWgs84(double latitude, double longitude) {
+            double phi = Math.toRadians(latitude);
+            double lambda = Math.toRadians(longitude);
+            double n = A / Math.sqrt(1 - E2 * Math.sin(phi) * Math.sin(phi));
+            double x = n * Math.cos(phi) * Math.cos(lambda);
+            double y = n * Math.cos(phi) * Math.sin(lambda);
+            double z = n * (1 - E2) * Math.sin(phi);
+
+            double rx = Math.toRadians(1.16 / 3600);
+            double ry = Math.toRadians(-2.31 / 3600);
+            double rz = Math.toRadians(-1.63 / 3600);
+            double scale = 1 + 6.43e-6;
+            double wx = -115.80 + scale * (x - rz * y + ry * z);
+            double wy = 474.99 + scale * (rz * x + y - rx * z);
+            double wz = 674.11 + scale * (-ry * x + rx * y + z);
+
+            double p = Math.hypot(wx, wy);
+            double wgsPhi = Math.atan2(wz, p * (1 - WGS84_E2));
+            for (int i = 0; i < 10; i++) {
+                double wgsN = WGS84_A / Math.sqrt(1 - WGS84_E2 * Math.sin(wgsPhi) * Math.sin(wgsPhi));
+                double height = p / Math.cos(wgsPhi) - wgsN;
+                wgsPhi = Math.atan2(wz, p * (1 - WGS84_E2 * wgsN / (wgsN + height)));
+            }
+            return new double[]{Math.toDegrees(wgsPhi), Math.toDegrees(Math.atan2(wy, wx))};
+        }
+
+        /**
+         * 적도부터 위도 phi까지의 자오선 호장 (Simpson 수치 적분)
+         */
+        private static double meridianArc(double phi) {
+            int steps = 2000;
+            double h = phi / steps;
+            double sum = 0;
+            for (int i = 0; i <= steps; i++) {
+                double sin = Math.sin(i * h);
+                double radius = A * (1 - E2) / Math.pow(1 - E2 * sin * sin, 1.5);
+                sum += radius * (i == 0 || i == steps ? 1 : (i % 2 == 1 ? 4 : 2));
+            }
+            return sum * h / 3;
+        }
+    }
+}
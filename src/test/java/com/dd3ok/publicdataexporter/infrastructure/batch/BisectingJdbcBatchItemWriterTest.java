@@ -0,0 +1,88 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BisectingJdbcBatchItemWriterTest {
+
+    private EmbeddedDatabase dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE item (management_number VARCHAR(50) PRIMARY KEY)");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크에 중복 키가 있으면, 중복 행만 스킵하고 나머지는 같은 트랜잭션에서 적재한다")
+    void write_SkipsOnlyDuplicates() {
+        // given: 2000건 중 이미 적재된 키 2건
+        jdbcTemplate.update("INSERT INTO item VALUES ('K0100')");
+        jdbcTemplate.update("INSERT INTO item VALUES ('K1500')");
+        List<String> items = IntStream.range(0, 2000).mapToObj("K%04d"::formatted).toList();
+
+        AtomicInteger statements = new AtomicInteger();
+        ItemWriter<String> jdbcWriter = new JdbcBatchItemWriterBuilder<String>()
+                .dataSource(dataSource)
+                .sql("INSERT INTO item (management_number) VALUES (?)")
+                .itemPreparedStatementSetter((item, ps) -> ps.setString(1, item))
+                .build();
+        BisectingJdbcBatchItemWriter<String> writer = new BisectingJdbcBatchItemWriter<>(chunk -> {
+            statements.incrementAndGet();
+            jdbcWriter.write(chunk);
+        }, dataSource);
+
+        List<String> skipped = new ArrayList<>();
+        writer.registerSkipListener(new SkipListener<Object, String>() {
+            @Override
+            public void onSkipInWrite(String item, Throwable t) {
+                skipped.add(item);
+            }
+        });
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                writer.write(new Chunk<>(items));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            assertThat(skipped).containsExactly("K0100", "K1500"); // 스킵 리스너는 커밋 전 청크 트랜잭션 안에서 호출
+        });
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item", Integer.class)).isEqualTo(2000);
+        assertThat(statements.get()).isLessThan(50); // 아이템 단위 재시도라면 2000번 이상
+    }
+}
@@ -0,0 +1,113 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.batch.item.file.mapping.PassThroughLineMapper;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteOffsetFlatFileItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("커밋 시 저장한 바이트 오프셋으로 재시작하면, 마지막 커밋 이후 레코드부터 이어서 읽는다")
+    void restart_ResumesFromCommittedByteOffset() throws Exception {
+        // given: 헤더 + 5개 레코드 (CRLF 혼용)
+        Path file = tempDir.resolve("data.csv");
+        Files.writeString(file, "header\r\n가,1\r\n나,2\n다,3\n라,4\n마,5", StandardCharsets.UTF_8);
+
+        ExecutionContext executionContext = new ExecutionContext();
+        ByteOffsetFlatFileItemReader<String> reader = createReader(file);
+        reader.open(executionContext);
+        assertThat(reader.read()).isEqualTo("가,1");
+        assertThat(reader.read()).isEqualTo("나,2");
+        reader.update(executionContext); // 청크 커밋
+        assertThat(reader.read()).isEqualTo("다,3"); // 커밋 전 실패
+        reader.close();
+
+        // when: 같은 ExecutionContext로 재시작
+        ByteOffsetFlatFileItemReader<String> restarted = createReader(file);
+        restarted.open(executionContext);
+
+        // then
+        assertThat(restarted.read()).isEqualTo("다,3");
+        assertThat(restarted.read()).isEqualTo("라,4");
+        assertThat(restarted.read()).isEqualTo("마,5");
+        assertThat(restarted.read()).isNull();
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("바이트 오프셋으로 재시작한 뒤 파싱 오류가 나면, 파일 기준 라인 번호를 보고한다")
+    void restart_ReportsFileLineNumberOnParseError() throws Exception {
+        // given: 헤더 + 레코드 2개 커밋 후 재시작, 4번째 라인이 잘못된 레코드
+        Path file = tempDir.resolve("data.csv");
+        Files.writeString(file, "header\n1\n2\nbad\n4\n", StandardCharsets.UTF_8);
+
+        ExecutionContext executionContext = new ExecutionContext();
+        ByteOffsetFlatFileItemReader<String> reader = createReader(file);
+        reader.open(executionContext);
+        reader.read();
+        reader.read();
+        reader.update(executionContext); // 청크 커밋
+        reader.close();
+
+        ByteOffsetFlatFileItemReader<String> restarted = createReader(file);
+        restarted.setLineMapper((line, lineNumber) -> {
+            if (line.equals("bad")) {
+                throw new IllegalArgumentException("invalid record");
+            }
+            return line;
+        });
+
+        // when
+        restarted.open(executionContext);
+
+        // then
+        assertThatThrownBy(restarted::read)
+                .isInstanceOf(FlatFileParseException.class)
+                .hasMessageStartingWith("Parsing error at line: 4 ")
+                .satisfies(e -> assertThat(((FlatFileParseException) e).getLineNumber()).isEqualTo(4));
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("maxItemCount만큼 읽으면, 남은 레코드가 있어도 null을 반환한다")
+    void read_StopsAtMaxItemCount() throws Exception {
+        // given
+        Path file = tempDir.resolve("data.csv");
+        Files.writeString(file, "header\n1\n2\n3\n", StandardCharsets.UTF_8);
+        ByteOffsetFlatFileItemReader<String> reader = createReader(file);
+        reader.setLinesToSkip(2); // 헤더 + 첫 레코드 스킵
+        reader.setMaxItemCount(1);
+
+        // when
+        reader.open(new ExecutionContext());
+
+        // then
+        assertThat(reader.read()).isEqualTo("2");
+        assertThat(reader.read()).isNull();
+        reader.close();
+    }
+
+    private ByteOffsetFlatFileItemReader<String> createReader(Path file) {
+        ByteOffsetFlatFileItemReader<String> reader = new ByteOffsetFlatFileItemReader<>();
+        reader.setName("testReader");
+        reader.setResource(new FileSystemResource(file));
+        reader.setEncoding(StandardCharsets.UTF_8);
+        reader.setLinesToSkip(1);
+        reader.setLineMapper(new PassThroughLineMapper());
+        return reader;
+    }
+}
@@ -0,0 +1,52 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvCharsetDetectorTest {
+
+    private static final String CSV = "\"번호\",\"개방서비스명\",\"관리번호\"\n1,일반음식점,3250000-101-2024-00139\n";
+
+    @Test
+    @DisplayName("EUC-KR로 저장된 파일은 MS949로 판별한다")
+    void detect_EucKr() throws Exception {
+        // given
+        ByteArrayResource resource = new ByteArrayResource(CSV.getBytes(Charset.forName("EUC-KR")));
+
+        // when & then
+        assertThat(CsvCharsetDetector.detect(resource)).isEqualTo(CsvCharsetDetector.MS949);
+    }
+
+    @Test
+    @DisplayName("BOM이 없는 UTF-8 파일도 UTF-8로 판별한다")
+    void detect_Utf8WithoutBom() throws Exception {
+        // given
+        ByteArrayResource resource = new ByteArrayResource(CSV.getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        assertThat(CsvCharsetDetector.detect(resource)).isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("BOM이 있는 테스트 데이터 파일은 UTF-8로 판별한다")
+    void detect_Utf8WithBom() throws Exception {
+        assertThat(CsvCharsetDetector.detect(new ClassPathResource("data/test_data.csv"))).isEqualTo(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("샘플 끝에서 잘린 UTF-8 문자는 판별에 영향을 주지 않는다")
+    void detect_TruncatedUtf8AtSampleEnd() {
+        // given: '한'(3바이트)의 앞 2바이트에서 샘플이 끝남
+        byte[] bytes = "가나다한".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(CsvCharsetDetector.detect(bytes, bytes.length - 1)).isEqualTo(StandardCharsets.UTF_8);
+    }
+}
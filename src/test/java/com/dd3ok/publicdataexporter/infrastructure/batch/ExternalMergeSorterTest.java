@@ -0,0 +1,111 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalMergeSorterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 런으로 나누어 정렬해도, 헤더를 유지하고 키 컬럼 순으로 병합한다")
+    void sort_MergesRunsByKeyColumn() throws Exception {
+        // given: 따옴표 안 쉼표, CRLF 혼용, 런 크기 30바이트 (라인 1~2개마다 런 생성)
+        String csv = """
+                번호,관리번호,사업장명\r
+                1,"3250000-101-2024-00003","진미, 식당"\r
+                2,"3250000-101-2024-00001",한식당
+                3,"3000000-101-2020-00009",분식\r
+                4,"3250000-101-2024-00002","가게"
+                """;
+        Path sorted = tempDir.resolve("out/sorted.csv");
+        Path runs = tempDir.resolve("runs");
+        ExternalMergeSorter sorter = new ExternalMergeSorter(runs, 30);
+
+        // when
+        long lines = sorter.sort(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), sorted, 1);
+
+        // then
+        assertThat(lines).isEqualTo(4);
+        assertThat(Files.readAllLines(sorted, StandardCharsets.UTF_8)).isEqualTo(List.of(
+                "번호,관리번호,사업장명",
+                "3,\"3000000-101-2020-00009\",분식",
+                "2,\"3250000-101-2024-00001\",한식당",
+                "4,\"3250000-101-2024-00002\",\"가게\"",
+                "1,\"3250000-101-2024-00003\",\"진미, 식당\""));
+        try (var files = Files.list(runs)) {
+            assertThat(files).isEmpty(); // 런 파일 정리
+        }
+    }
+
+    @Test
+    @DisplayName("런 수가 fan-in을 넘으면, 여러 단계로 나누어 병합해도 키 컬럼 순으로 정렬한다")
+    void sort_MergesInMultiplePasses() throws Exception {
+        // given: 라인마다 런 하나 (런 9개), fan-in 2 -> 중간 병합 9 -> 5 -> 3 -> 2 후 최종 병합
+        List<String> keys = List.of("K7", "K3", "K9", "K1", "K5", "K8", "K2", "K6", "K4");
+        Path sorted = tempDir.resolve("sorted.csv");
+        Path runs = tempDir.resolve("runs");
+        ExternalMergeSorter sorter = new ExternalMergeSorter(runs, 1, 2);
+
+        // when
+        long lines = sorter.sort(new ByteArrayInputStream(csv(keys).getBytes(StandardCharsets.UTF_8)), sorted, 0);
+
+        // then
+        assertThat(lines).isEqualTo(9);
+        assertThat(Files.readAllLines(sorted, StandardCharsets.UTF_8)).containsExactly(
+                "key,value", "K1,v", "K2,v", "K3,v", "K4,v", "K5,v", "K6,v", "K7,v", "K8,v", "K9,v");
+        try (var files = Files.list(runs)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("중간 병합 단계에서 실패하면, 그때까지 만든 런 파일을 모두 삭제하고 결과 파일을 만들지 않는다")
+    void sort_DeletesRunsWhenMergePassFails() throws Exception {
+        // given: 두 번째 병합(첫 단계 중간)에서 실패
+        Path sorted = tempDir.resolve("sorted.csv");
+        Path runs = tempDir.resolve("runs");
+        List<Path> mergeTargets = new ArrayList<>();
+        ExternalMergeSorter sorter = new ExternalMergeSorter(runs, 1, 2) {
+            @Override
+            void merge(List<Path> group, byte[] header, Path target, int keyColumn) throws IOException {
+                mergeTargets.add(target);
+                if (mergeTargets.size() == 2) {
+                    throw new IOException("disk full");
+                }
+                super.merge(group, header, target, keyColumn);
+            }
+        };
+        String csv = csv(List.of("K5", "K4", "K3", "K2", "K1"));
+
+        // when & then
+        assertThatThrownBy(() -> sorter.sort(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), sorted, 0))
+                .isInstanceOf(IOException.class)
+                .hasMessage("disk full");
+        try (var files = Files.list(runs)) {
+            assertThat(files).isEmpty();
+        }
+        assertThat(sorted).doesNotExist();
+    }
+
+    private static String csv(List<String> keys) {
+        StringBuilder csv = new StringBuilder("key,value\n");
+        for (String key : keys) {
+            csv.append(key).append(",v\n");
+        }
+        return csv.toString();
+    }
+}
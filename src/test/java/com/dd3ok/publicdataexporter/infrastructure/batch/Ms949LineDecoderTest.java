@@ -0,0 +1,54 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Ms949LineDecoderTest {
+
+    private static final Charset MS949 = CsvCharsetDetector.MS949;
+
+    private final Ms949LineDecoder decoder = new Ms949LineDecoder();
+
+    @Test
+    @DisplayName("ASCII와 한글이 섞인 라인을 JDK MS949 디코더와 같은 문자열로 디코딩한다")
+    void decode_MixedLine() {
+        // given: 확장 완성형 한글(똠, 뷁) 포함
+        String line = "3250000-101-2024-00139,\"서울특별시 강남구 테헤란로 123, 1층\",한식,20240101,똠얌꿍 뷁,,";
+        byte[] bytes = ("#" + line + "\r").getBytes(MS949);
+
+        // when: 앞뒤 1바이트를 제외한 구간만 디코딩
+        String decoded = decoder.decode(bytes, 1, bytes.length - 2);
+
+        // then
+        assertThat(decoded).isEqualTo(line);
+    }
+
+    @Test
+    @DisplayName("잘못된 바이트열은 JDK 디코더와 같은 위치에서 U+FFFD로 치환한다")
+    void decode_MalformedBytes_SameAsJdk() {
+        // given
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10_000; i++) {
+            byte[] bytes = new byte[random.nextInt(32)];
+            random.nextBytes(bytes);
+
+            // when & then
+            assertThat(decoder.decode(bytes, 0, bytes.length)).isEqualTo(new String(bytes, MS949));
+        }
+    }
+
+    @Test
+    @DisplayName("EUC-KR, MS949만 빠른 디코더를 지원한다")
+    void supports() {
+        assertThat(Ms949LineDecoder.supports(Charset.forName("EUC-KR"))).isTrue();
+        assertThat(Ms949LineDecoder.supports(Charset.forName("CP949"))).isTrue();
+        assertThat(Ms949LineDecoder.supports(StandardCharsets.UTF_8)).isFalse();
+    }
+}
@@ -0,0 +1,94 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryFile;
+import com.dd3ok.publicdataexporter.infrastructure.binary.RestaurantBinaryWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantBinaryItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path file;
+    private int firstBlockRows;
+    private int secondBlockRows;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // given: 블록 여러 개로 나뉜 200건
+        file = tempDir.resolve("restaurant.rbin");
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(file, 2048)) {
+            for (int i = 0; i < 200; i++) {
+                writer.write(Restaurant.builder()
+                        .managementNumber("M%05d".formatted(i))
+                        .businessName("음식점" + i)
+                        .build());
+            }
+            writer.finish();
+        }
+        try (RestaurantBinaryFile binaryFile = RestaurantBinaryFile.open(file)) {
+            assertThat(binaryFile.blockCount()).isGreaterThan(3);
+            firstBlockRows = binaryFile.rowCount(0);
+            secondBlockRows = binaryFile.rowCount(1);
+        }
+    }
+
+    @Test
+    @DisplayName("블록 범위를 지정하면, 해당 블록의 행만 순서대로 읽는다")
+    void read_OnlyAssignedBlocks() throws Exception {
+        // when
+        List<String> result = readAll(new RestaurantBinaryItemReader(file, 1, 2), new ExecutionContext());
+
+        // then
+        assertThat(result).first().isEqualTo("M%05d".formatted(firstBlockRows));
+        assertThat(result).doesNotContain("M%05d".formatted(firstBlockRows - 1));
+        assertThat(result).isSortedAccordingTo(String::compareTo);
+    }
+
+    @Test
+    @DisplayName("재시작하면, 저장된 읽은 건수 다음 행부터 블록 경계를 넘어 이어서 읽는다")
+    void restart_ResumesAfterReadCount() throws Exception {
+        // given: 첫 블록 전체와 두 번째 블록의 2건까지 커밋된 상태
+        ExecutionContext executionContext = new ExecutionContext();
+        RestaurantBinaryItemReader reader = new RestaurantBinaryItemReader(file, 0, 3);
+        reader.open(executionContext);
+        for (int i = 0; i < firstBlockRows + 2; i++) {
+            reader.read();
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        // when
+        List<String> result = readAll(new RestaurantBinaryItemReader(file, 0, 3), executionContext);
+
+        // then
+        assertThat(result).first().isEqualTo("M%05d".formatted(firstBlockRows + 2));
+        assertThat(result).contains("M%05d".formatted(firstBlockRows + secondBlockRows));
+    }
+
+    private static List<String> readAll(RestaurantBinaryItemReader reader, ExecutionContext executionContext)
+            throws Exception {
+        List<String> result = new ArrayList<>();
+        reader.open(executionContext);
+        try {
+            Restaurant restaurant;
+            while ((restaurant = reader.read()) != null) {
+                result.add(restaurant.getManagementNumber());
+            }
+        } finally {
+            reader.close();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantColumnChunkProcessorTest {
+
+    private RestaurantColumnChunkProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        processor = new RestaurantColumnChunkProcessor();
+    }
+
+    @Test
+    @DisplayName("원문 컬럼이 기본형 배열로 변환되고, 빈 값은 null 비트맵에 표시된다")
+    void process_ConvertsRawColumnsInPlace() {
+        // given
+        RestaurantColumnChunk chunk = new RestaurantColumnChunk(4);
+        int row = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, row, "12345-6789");
+        chunk.setRaw(LICENSING_DATE, row, "2023-01-01");
+        chunk.setRaw(CLOSE_DATE, row, "");
+        chunk.setRaw(LAST_MODIFIED_AT, row, "2024-12-12 10:05:07.5");
+        chunk.setRaw(LOCATION_AREA, row, "100.5");
+        chunk.setRaw(MALE_WORKER_COUNT, row, "3");
+
+        // when
+        RestaurantColumnChunk result = processor.process(chunk);
+
+        // then
+        assertThat(result.isFiltered(row)).isFalse();
+        assertThat(result.getLicensingDate(row)).isEqualTo(LocalDate.of(2023, 1, 1).toEpochDay());
+        assertThat(result.isNull(CLOSE_DATE, row)).isTrue();
+        long expectedMicros = LocalDateTime.of(2024, 12, 12, 10, 5, 7, 500_000_000).toEpochSecond(ZoneOffset.UTC) * 1_000_000L + 500_000L;
+        assertThat(result.getLastModifiedAt(row)).isEqualTo(expectedMicros);
+        assertThat(result.getLocationArea(row)).isEqualTo(100.5);
+        assertThat(result.getMaleWorkerCount(row)).isEqualTo(3);
+        assertThat(result.isNull(FEMALE_WORKER_COUNT, row)).isTrue();
+        assertThat(result.getRaw(LICENSING_DATE, row)).isNull(); // 변환 후 원문 해제
+    }
+
+    @Test
+    @DisplayName("관리번호가 없거나 숫자 변환에 실패한 행은 걸러지고, 날짜는 행 모드와 같이 보정하거나 null로 처리된다")
+    void process_FiltersInvalidRows() {
+        // given
+        RestaurantColumnChunk chunk = new RestaurantColumnChunk(5);
+        int empty = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, empty, " ");
+        int invalidNumber = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, invalidNumber, "1");
+        chunk.setRaw(LOCATION_AREA, invalidNumber, "not-a-number");
+        int invalidDate = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, invalidDate, "2");
+        chunk.setRaw(LICENSING_DATE, invalidDate, "2023-13-01");
+        int overflowDate = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, overflowDate, "3");
+        chunk.setRaw(LICENSING_DATE, overflowDate, "2023-02-30");
+        int invalidCoordinate = chunk.addRow();
+        chunk.setString(MANAGEMENT_NUMBER, invalidCoordinate, "4");
+        chunk.setRaw(COORDINATE_X, invalidCoordinate, "NaN"); // double로는 변환되지만 BigDecimal로는 변환되지 않음
+
+        // when
+        RestaurantColumnChunk result = processor.process(chunk);
+
+        // then
+        assertThat(result.isFiltered(empty)).isTrue();
+        assertThat(result.isFiltered(invalidNumber)).isTrue();
+        assertThat(result.isFiltered(invalidDate)).isFalse();
+        assertThat(result.isNull(LICENSING_DATE, invalidDate)).isTrue();
+        assertThat(result.isFiltered(overflowDate)).isFalse();
+        assertThat(result.getLicensingDate(overflowDate)).isEqualTo(LocalDate.of(2023, 2, 28).toEpochDay()); // 행 모드와 동일
+        assertThat(result.isFiltered(invalidCoordinate)).isTrue();
+        assertThat(result.filteredCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("날짜 파싱 결과는 LocalDate.toEpochDay와 같다")
+    void parseEpochDay_MatchesLocalDate() {
+        // given
+        LocalDate[] dates = {LocalDate.of(1970, 1, 1), LocalDate.of(1969, 12, 31), LocalDate.of(2000, 2, 29), LocalDate.of(2099, 12, 31)};
+
+        // when & then
+        for (LocalDate date : dates) {
+            assertThat(RestaurantColumnChunkProcessor.parseEpochDay(date.toString())).isEqualTo(date.toEpochDay());
+        }
+        assertThat(RestaurantColumnChunkProcessor.parseEpochDay("2001-02-29")).isEqualTo(Long.MIN_VALUE);
+        assertThat(RestaurantColumnChunkProcessor.parseEpochMicros("2024-12-12")).isEqualTo(Long.MIN_VALUE);
+    }
+}
@@ -0,0 +1,127 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantColumnChunkReaderTest {
+
+    private static final List<String> COLUMNS = List.of(RestaurantCsvItemReader.CSV_HEADERS);
+
+    @TempDir
+    Path tempDir;
+
+    private RestaurantCsvItemReader csvItemReader;
+    private ImporterProperties.Dataset dataset;
+
+    @BeforeEach
+    void setUp() {
+        csvItemReader = new RestaurantCsvItemReader(new RestaurantFieldSetMapper());
+        dataset = new ImporterProperties.Dataset();
+        dataset.setName("restaurant");
+        dataset.setEncoding("UTF-8");
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 이중 따옴표, 앞뒤 공백을 행 모드(DelimitedLineTokenizer)와 같은 값으로 읽는다")
+    void read_TokenizesLikeRowMode() throws Exception {
+        // given
+        Path file = write(
+                line("관리번호", "M-1", "사업장명", "\"큰\"\"맛\"\" 식당\"", "소재지전체주소", "\"서울, 중구 \"",
+                        "인허가일자", " 2023-01-01 ", "좌표정보(X)", "198765.1"),
+                line("관리번호", "M-2", "사업장명", "\"\"", "소재지전체주소", "부산 해운대구",
+                        "인허가일자", "", "좌표정보(X)", ""));
+
+        // when
+        List<RestaurantCsvDto> rowMode = readRowMode(file);
+        RestaurantColumnChunk chunk = readColumnar(file);
+
+        // then
+        assertThat(chunk.size()).isEqualTo(2);
+        for (int row = 0; row < rowMode.size(); row++) {
+            RestaurantCsvDto dto = rowMode.get(row);
+            assertThat(chunk.getString(MANAGEMENT_NUMBER, row)).isEqualTo(dto.getManagementNumber());
+            assertThat(chunk.getString(BUSINESS_NAME, row)).isEqualTo(dto.getBusinessName());
+            assertThat(chunk.getString(FULL_ADDRESS, row)).isEqualTo(dto.getFullAddress());
+            assertThat(chunk.getRaw(LICENSING_DATE, row)).isEqualTo(dto.getLicenseDate());
+            assertThat(chunk.getRaw(COORDINATE_X, row)).isEqualTo(dto.getCoordinateX());
+        }
+        assertThat(chunk.getString(BUSINESS_NAME, 0)).isEqualTo("큰\"맛\" 식당");
+        assertThat(chunk.getString(FULL_ADDRESS, 0)).isEqualTo("서울, 중구");
+    }
+
+    @Test
+    @DisplayName("토큰 수가 컬럼 수와 다르면, 행 모드와 같이 라인 번호와 함께 FlatFileParseException을 던진다")
+    void read_Throws_WhenTokenCountDiffers() throws Exception {
+        // given
+        Path file = write(line("관리번호", "M-1"), "M-2,too,few");
+        RestaurantColumnChunkReader reader = csvItemReader.createColumnChunkReader(
+                dataset, new FileSystemResource(file), 1L, 2L, 10);
+        reader.open(new ExecutionContext());
+
+        // when & then
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(FlatFileParseException.class)
+                .satisfies(e -> assertThat(((FlatFileParseException) e).getLineNumber()).isEqualTo(3));
+        reader.close();
+    }
+
+    private List<RestaurantCsvDto> readRowMode(Path file) throws Exception {
+        ByteOffsetFlatFileItemReader<RestaurantCsvDto> reader =
+                csvItemReader.createReader(dataset, new FileSystemResource(file), 1L, 2L);
+        reader.open(new ExecutionContext());
+        List<RestaurantCsvDto> dtos = new ArrayList<>();
+        RestaurantCsvDto dto;
+        while ((dto = reader.read()) != null) {
+            dtos.add(dto);
+        }
+        reader.close();
+        return dtos;
+    }
+
+    private RestaurantColumnChunk readColumnar(Path file) throws Exception {
+        RestaurantColumnChunkReader reader = csvItemReader.createColumnChunkReader(
+                dataset, new FileSystemResource(file), 1L, 2L, 10);
+        reader.open(new ExecutionContext());
+        RestaurantColumnChunk chunk = reader.read();
+        assertThat(reader.read()).isNull();
+        reader.close();
+        return chunk;
+    }
+
+    private Path write(String... lines) throws Exception {
+        Path file = tempDir.resolve("restaurant_data.csv");
+        Files.writeString(file, String.join(",", COLUMNS) + "\n" + String.join("\n", lines) + "\n",
+                StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * 지정한 컬럼에만 값을 넣은 CSV 라인 (헤더명, 원문 값 쌍)
+     */
+    private static String line(String... columnValues) {
+        String[] values = new String[COLUMNS.size()];
+        Arrays.fill(values, "");
+        for (int i = 0; i < columnValues.length; i += 2) {
+            values[COLUMNS.indexOf(columnValues[i])] = columnValues[i + 1];
+        }
+        return String.join(",", values);
+    }
+}
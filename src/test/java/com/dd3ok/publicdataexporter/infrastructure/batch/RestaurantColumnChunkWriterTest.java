@@ -0,0 +1,200 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.skip.SkipLimitExceededException;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.dd3ok.publicdataexporter.infrastructure.batch.RestaurantColumnChunk.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantColumnChunkWriterTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private RestaurantColumnChunkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:columnChunkWriter;MODE=MYSQL", "sa", "", true);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        writer = new RestaurantColumnChunkWriter(dataSource, "restaurant", null, null, 0, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("청크에 중복 키가 있으면, 중복 행만 스킵하고 나머지는 같은 트랜잭션에서 적재한다")
+    void write_SkipsOnlyDuplicates() {
+        // given: 2000행 중 이미 적재된 키 2건
+        jdbcTemplate.update("INSERT INTO restaurant (management_number) VALUES ('K0100')");
+        jdbcTemplate.update("INSERT INTO restaurant (management_number) VALUES ('K1500')");
+        RestaurantColumnChunk chunk = chunk(2000);
+
+        // when
+        write(chunk);
+
+        // then
+        assertThat(chunk.skippedCount()).isEqualTo(2);
+        assertThat(chunk.isWritable(100)).isFalse();
+        assertThat(chunk.isWritable(1500)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Integer.class)).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("Step 스킵 건수와 합해 skipLimit을 넘으면, 행 모드와 같이 SkipLimitExceededException으로 실패한다")
+    void write_FailsWhenSkipLimitExceeded() {
+        // given: 이전 청크까지 스킵 1건, 이번 청크에 중복 2건, skipLimit 2
+        jdbcTemplate.update("INSERT INTO restaurant (management_number) VALUES ('K0001')");
+        jdbcTemplate.update("INSERT INTO restaurant (management_number) VALUES ('K0002')");
+        StepExecution stepExecution = new StepExecution("restaurantWorkerStep:partition0", new JobExecution(1L));
+        stepExecution.setWriteSkipCount(1);
+        StepSynchronizationManager.register(stepExecution);
+        writer.setSkipLimit(2);
+
+        // when & then
+        assertThatThrownBy(() -> write(chunk(10)))
+                .isInstanceOf(SkipLimitExceededException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("컬럼형 청크 하나를 쓰면, 행 단위 읽기/쓰기/스킵 건수를 커밋 직전 Step 건수에 반영한다")
+    void write_ContributesRowCounts() {
+        // given: 10행 중 이미 적재된 키 1건
+        jdbcTemplate.update("INSERT INTO restaurant (management_number) VALUES ('K0003')");
+        StepExecution stepExecution = new StepExecution("restaurantWorkerStep:partition0", new JobExecution(1L));
+        RowCountContribution contribution = new RowCountContribution();
+        contribution.beforeStep(stepExecution);
+        writer.setRowCountContribution(contribution);
+        RestaurantColumnChunk chunk = chunk(10);
+
+        // when: Step은 컬럼형 청크 하나를 읽기/쓰기 1건으로 집계한 뒤 커밋 직전 update() 호출
+        transactionTemplate.executeWithoutResult(status -> {
+            write(chunk);
+            stepExecution.setReadCount(1);
+            stepExecution.setWriteCount(1);
+            contribution.update(stepExecution.getExecutionContext());
+        });
+
+        // then
+        assertThat(stepExecution.getReadCount()).isEqualTo(10);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(9);
+        assertThat(stepExecution.getWriteSkipCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 원문을 적재하면, 컬럼형 모드와 행 모드가 같은 행을 적재한다")
+    void write_MatchesRowMode() throws Exception {
+        // given: 관리번호, 인허가일자, 최종수정시점, 면적, 좌표(X), 좌표(Y), 남성종사자수
+        String[][] fixture = {
+                {"A1", "2023-01-01", "2024-12-12 10:05:07.5", "100.5", "198765.123456789", "451234.987654321", "3"},
+                {"A2", "2023-02-30", "2024-12-12 24:00:00", "", "0.1", "0.2", ""},  // 보정되는 날짜/일시
+                {"A3", "2023-13-01", "not-a-date", "12", "127.000000001", "", "0"}, // null이 되는 날짜/일시
+                {"A4", "2024-02-29", "", "1e2", "1E+2", "-0.000000001", "12"},
+                {"A5", "", "", "", "NaN", "1", ""},                                 // 걸러지는 좌표
+                {"", "2023-01-01", "", "", "", "", ""}                              // 걸러지는 관리번호
+        };
+
+        // when: 행 모드
+        RestaurantItemProcessor rowProcessor = new RestaurantItemProcessor();
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (String[] values : fixture) {
+            Restaurant restaurant = rowProcessor.process(dto(values));
+            if (restaurant != null) {
+                restaurants.add(restaurant);
+            }
+        }
+        new RestaurantJdbcItemWriter(dataSource, new ImporterProperties())
+                .createWriter("restaurant", null, null)
+                .write(new Chunk<>(restaurants));
+        List<Map<String, Object>> rowMode = selectAll();
+        jdbcTemplate.update("DELETE FROM restaurant");
+
+        // when: 컬럼형 모드
+        RestaurantColumnChunk chunk = new RestaurantColumnChunk(fixture.length);
+        for (String[] values : fixture) {
+            int row = chunk.addRow();
+            chunk.setString(MANAGEMENT_NUMBER, row, values[0]);
+            chunk.setRaw(LICENSING_DATE, row, values[1]);
+            chunk.setRaw(LAST_MODIFIED_AT, row, values[2]);
+            chunk.setRaw(LOCATION_AREA, row, values[3]);
+            chunk.setRaw(COORDINATE_X, row, values[4]);
+            chunk.setRaw(COORDINATE_Y, row, values[5]);
+            chunk.setRaw(MALE_WORKER_COUNT, row, values[6]);
+        }
+        write(new RestaurantColumnChunkProcessor().process(chunk));
+        List<Map<String, Object>> columnarMode = selectAll();
+
+        // then
+        assertThat(rowMode).hasSize(4);
+        assertThat(columnarMode).isEqualTo(rowMode);
+    }
+
+    private static RestaurantCsvDto dto(String[] values) {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setManagementNumber(values[0]);
+        dto.setLicenseDate(values[1]);
+        dto.setLastModifiedAt(values[2]);
+        dto.setLocationArea(values[3]);
+        dto.setCoordinateX(values[4]);
+        dto.setCoordinateY(values[5]);
+        dto.setMaleWorkerCount(values[6]);
+        return dto;
+    }
+
+    private List<Map<String, Object>> selectAll() {
+        return jdbcTemplate.queryForList("""
+                SELECT management_number, licensing_date, last_modified_at, location_area,
+                       coordinate_x, coordinate_y, male_worker_count
+                FROM restaurant ORDER BY management_number
+                """);
+    }
+
+    private void write(RestaurantColumnChunk chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                writer.write(new Chunk<>(chunk));
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static RestaurantColumnChunk chunk(int size) {
+        RestaurantColumnChunk chunk = new RestaurantColumnChunk(size);
+        for (int i = 0; i < size; i++) {
+            chunk.setString(MANAGEMENT_NUMBER, chunk.addRow(), "K%04d".formatted(i));
+        }
+        return new RestaurantColumnChunkProcessor().process(chunk);
+    }
+}
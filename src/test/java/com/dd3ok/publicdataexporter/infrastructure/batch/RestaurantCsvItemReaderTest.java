@@ -0,0 +1,84 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.adapter.in.file.RestaurantCsvDto;
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantCsvItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RestaurantCsvItemReader csvItemReader;
+
+    @BeforeEach
+    void setUp() {
+        csvItemReader = new RestaurantCsvItemReader(new RestaurantFieldSetMapper());
+    }
+
+    @Test
+    @DisplayName("데이터셋에 컬럼 순서를 지정하면, 해당 순서로 토큰화하여 헤더명으로 매핑한다")
+    void createReader_UsesDatasetColumnOverride() throws Exception {
+        // given: 관리번호와 사업장명의 위치가 표준과 다른 데이터셋
+        List<String> columns = new ArrayList<>(List.of(RestaurantCsvItemReader.CSV_HEADERS));
+        Collections.swap(columns, columns.indexOf("관리번호"), columns.indexOf("사업장명"));
+        ImporterProperties.Dataset dataset = dataset(columns);
+
+        String[] values = new String[columns.size()];
+        Arrays.fill(values, "");
+        values[columns.indexOf("관리번호")] = "M-1";
+        values[columns.indexOf("사업장명")] = "테스트 식당";
+        Path file = tempDir.resolve("bakery.csv");
+        Files.writeString(file, String.join(",", columns) + "\n" + String.join(",", values) + "\n", StandardCharsets.UTF_8);
+
+        // when
+        ByteOffsetFlatFileItemReader<RestaurantCsvDto> reader =
+                csvItemReader.createReader(dataset, new FileSystemResource(file), 1L, 1L);
+        reader.open(new ExecutionContext());
+        RestaurantCsvDto dto = reader.read();
+        reader.close();
+
+        // then
+        assertThat(dto.getManagementNumber()).isEqualTo("M-1");
+        assertThat(dto.getBusinessName()).isEqualTo("테스트 식당");
+        assertThat(csvItemReader.columnIndex(dataset, "관리번호")).isEqualTo(columns.indexOf("관리번호"));
+    }
+
+    @Test
+    @DisplayName("컬럼 순서를 지정하지 않으면 표준 헤더를 쓰고, 없는 컬럼을 찾으면 예외를 던진다")
+    void columnIndex_UsesStandardHeaders() {
+        // given
+        ImporterProperties.Dataset dataset = dataset(List.of());
+
+        // when & then
+        assertThat(csvItemReader.columnIndex(dataset, "관리번호")).isEqualTo(4);
+        assertThatThrownBy(() -> csvItemReader.columnIndex(dataset, "없는컬럼"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("없는컬럼");
+    }
+
+    private static ImporterProperties.Dataset dataset(List<String> columns) {
+        ImporterProperties.Dataset dataset = new ImporterProperties.Dataset();
+        dataset.setName("bakery");
+        dataset.setTargetTable("bakery");
+        dataset.setEncoding("UTF-8");
+        dataset.setColumns(new ArrayList<>(columns));
+        return dataset;
+    }
+}
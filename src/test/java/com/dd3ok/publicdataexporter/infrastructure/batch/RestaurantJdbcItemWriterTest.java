@@ -0,0 +1,33 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantJdbcItemWriterTest {
+
+    private static final String TEMPLATE = "INSERT INTO %s (%s a, b) VALUES (%s :a, :b)";
+
+    @Test
+    @DisplayName("적재일이 없으면 템플릿 컬럼만 INSERT한다")
+    void insertSql_WithoutLoadDate() {
+        // when
+        String sql = RestaurantJdbcItemWriter.insertSql(TEMPLATE, "restaurant", null);
+
+        // then
+        assertThat(sql).isEqualTo("INSERT INTO restaurant ( a, b) VALUES ( :a, :b)");
+    }
+
+    @Test
+    @DisplayName("적재일이 있으면 load_date 컬럼을 날짜 리터럴로 추가한다")
+    void insertSql_WithLoadDate() {
+        // when
+        String sql = RestaurantJdbcItemWriter.insertSql(TEMPLATE, "restaurant_history", LocalDate.of(2026, 10, 19));
+
+        // then
+        assertThat(sql).isEqualTo("INSERT INTO restaurant_history (load_date, a, b) VALUES (DATE '2026-10-19', :a, :b)");
+    }
+}
@@ -0,0 +1,149 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryCollector;
+import com.dd3ok.publicdataexporter.infrastructure.summary.RestaurantSummaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.explore.support.JobExplorerFactoryBean;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSummaryTaskletTest {
+
+    private static final String JOB_NAME = "restaurantCsvToDbJob";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private JobRepository jobRepository;
+    private RestaurantSummaryTasklet summaryTasklet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:summaryTasklet;MODE=MYSQL", "sa", "", true);
+        new ResourceDatabasePopulator(new ClassPathResource("org/springframework/batch/core/schema-h2.sql"))
+                .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource); // 적재/요약 테이블
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        JobRepositoryFactoryBean repositoryFactory = new JobRepositoryFactoryBean();
+        repositoryFactory.setDataSource(dataSource);
+        repositoryFactory.setTransactionManager(transactionManager);
+        repositoryFactory.afterPropertiesSet();
+        jobRepository = repositoryFactory.getObject();
+
+        JobExplorerFactoryBean explorerFactory = new JobExplorerFactoryBean();
+        explorerFactory.setDataSource(dataSource);
+        explorerFactory.setTransactionManager(transactionManager);
+        explorerFactory.afterPropertiesSet();
+        JobExplorer jobExplorer = explorerFactory.getObject();
+
+        // 이력 모드: 요약 테이블을 이번 Job의 건수로 교체
+        ImporterProperties properties = new ImporterProperties();
+        properties.getHistory().setEnabled(true);
+        RestaurantSummaryService summaryService = new RestaurantSummaryService(
+                dataSource, new DatasetRegistry(properties, new DefaultResourceLoader()), properties);
+        summaryTasklet = new RestaurantSummaryTasklet(summaryService, jobExplorer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("Manager Step이 이전 실행에서 완료된 뒤 재시작하면, 이전 실행의 파티션 합계로 요약 테이블을 채운다")
+    void restart_UsesPartitionsOfPreviousExecution() throws Exception {
+        // given: 첫 실행은 파티션 2개 적재(Manager Step 완료) 후 요약 Step 전에 실패
+        JobParameters jobParameters = new JobParametersBuilder().addString("dataset", "restaurant").toJobParameters();
+        JobExecution first = jobRepository.createJobExecution(JOB_NAME, jobParameters);
+        completePartition(first, "restaurantWorkerStep:partition0", Map.of("STATUS:OPEN", 2L, "INDUSTRY_TYPE:한식", 2L));
+        completePartition(first, "restaurantWorkerStep:partition1", Map.of("STATUS:OPEN", 1L, "STATUS:CLOSED", 1L));
+        fail(first);
+
+        // when: 재시작 - 완료된 Manager Step은 건너뛰므로 현재 실행에는 파티션 StepExecution이 없음
+        JobExecution restart = jobRepository.createJobExecution(JOB_NAME, jobParameters);
+        StepExecution summaryStep = execute(restart);
+
+        // then
+        assertThat(summaryStep.getExecutionContext().getInt("summary.partitions")).isEqualTo(2);
+        assertThat(count("STATUS", "OPEN")).isEqualTo(3L);
+        assertThat(count("STATUS", "CLOSED")).isEqualTo(1L);
+        assertThat(count("INDUSTRY_TYPE", "한식")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재시작에서 다시 실행된 파티션은 마지막 실행의 합계만 사용한다")
+    void restart_UsesLastExecutionOfEachPartition() throws Exception {
+        // given: 첫 실행에서 partition1이 일부만 커밋하고 실패
+        JobParameters jobParameters = new JobParametersBuilder().addString("dataset", "restaurant").toJobParameters();
+        JobExecution first = jobRepository.createJobExecution(JOB_NAME, jobParameters);
+        completePartition(first, "restaurantWorkerStep:partition0", Map.of("STATUS:OPEN", 2L));
+        completePartition(first, "restaurantWorkerStep:partition1", Map.of("STATUS:OPEN", 1L));
+        fail(first);
+
+        // when: 재시작에서 partition1이 복원된 합계에 이어서 완료
+        JobExecution restart = jobRepository.createJobExecution(JOB_NAME, jobParameters);
+        completePartition(restart, "restaurantWorkerStep:partition1", Map.of("STATUS:OPEN", 5L));
+        execute(restart);
+
+        // then
+        assertThat(count("STATUS", "OPEN")).isEqualTo(7L);
+    }
+
+    private void completePartition(JobExecution jobExecution, String stepName, Map<String, Long> totals) {
+        StepExecution partition = jobExecution.createStepExecution(stepName);
+        jobRepository.add(partition);
+        partition.getExecutionContext().put(RestaurantSummaryCollector.TOTALS_KEY, new HashMap<>(totals));
+        jobRepository.updateExecutionContext(partition);
+        partition.setStatus(BatchStatus.COMPLETED);
+        partition.setEndTime(LocalDateTime.now());
+        jobRepository.update(partition);
+    }
+
+    private StepExecution execute(JobExecution jobExecution) throws Exception {
+        StepExecution summaryStep = jobExecution.createStepExecution("restaurantSummaryStep");
+        jobRepository.add(summaryStep);
+        summaryTasklet.execute(new StepContribution(summaryStep), new ChunkContext(new StepContext(summaryStep)));
+        return summaryStep;
+    }
+
+    private void fail(JobExecution jobExecution) {
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setStartTime(LocalDateTime.now());
+        jobExecution.setEndTime(LocalDateTime.now());
+        jobRepository.update(jobExecution);
+    }
+
+    private Long count(String dimension, String value) {
+        return jdbcTemplate.queryForObject(
+                "SELECT row_count FROM restaurant_summary WHERE dimension = ? AND dimension_value = ?",
+                Long.class, dimension, value);
+    }
+}
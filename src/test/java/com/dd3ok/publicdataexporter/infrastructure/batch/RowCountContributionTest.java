@@ -0,0 +1,65 @@
+package com.dd3ok.publicdataexporter.infrastructure.batch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowCountContributionTest {
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new ResourcelessTransactionManager());
+    private StepExecution stepExecution;
+    private RowCountContribution contribution;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = new StepExecution("restaurantWorkerStep:partition0", new JobExecution(1L));
+        contribution = new RowCountContribution();
+        contribution.beforeStep(stepExecution);
+    }
+
+    @Test
+    @DisplayName("커밋 직전 update()에서 보정값을 StepExecution에 한 번만 더한다")
+    void update_AppliesContributionBeforeCommit() {
+        // when: Step은 컬럼형 청크 하나를 읽기/쓰기 1건으로 집계, 2000행 중 필터 1건, 중복 스킵 2건
+        transactionTemplate.executeWithoutResult(status -> {
+            stepExecution.setReadCount(1);
+            stepExecution.setWriteCount(1);
+            contribution.add(1999, 1996, 1, 2);
+            contribution.update(stepExecution.getExecutionContext());
+        });
+        contribution.update(stepExecution.getExecutionContext()); // 보정값이 없는 다음 청크
+
+        // then
+        assertThat(stepExecution.getReadCount()).isEqualTo(2000);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(1997);
+        assertThat(stepExecution.getFilterCount()).isEqualTo(1);
+        assertThat(stepExecution.getWriteSkipCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("update() 전에 롤백된 청크의 보정값은, 다음 청크에 반영하지 않는다")
+    void update_DiscardsRolledBackContribution() {
+        // given: 스킵을 센 뒤 롤백된 청크
+        transactionTemplate.executeWithoutResult(status -> {
+            contribution.add(0, -2, 0, 2);
+            status.setRollbackOnly();
+        });
+
+        // when: 다시 처리한 청크
+        transactionTemplate.executeWithoutResult(status -> {
+            stepExecution.setWriteCount(stepExecution.getWriteCount() + 10);
+            contribution.add(0, -1, 0, 1);
+            contribution.update(stepExecution.getExecutionContext());
+        });
+
+        // then
+        assertThat(stepExecution.getWriteCount()).isEqualTo(9);
+        assertThat(stepExecution.getWriteSkipCount()).isEqualTo(1);
+    }
+}
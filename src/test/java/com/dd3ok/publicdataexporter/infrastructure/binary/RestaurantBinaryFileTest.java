@@ -0,0 +1,135 @@
+package com.dd3ok.publicdataexporter.infrastructure.binary;
+
+import com.dd3ok.publicdataexporter.domain.model.Restaurant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestaurantBinaryFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("컴파일한 행을 블록 순서대로 읽으면, 모든 타입의 값과 null이 그대로 복원된다")
+    void compileAndRead_RestoresAllFields() throws Exception {
+        // given: 블록 여러 개에 나뉘어 저장될 300건
+        Path file = tempDir.resolve("restaurant.rbin");
+        List<Restaurant> rows = restaurants(300);
+        int blockCount;
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(file, 4096)) {
+            for (Restaurant row : rows) {
+                writer.write(row);
+            }
+            assertThat(writer.finish()).isEqualTo(300);
+            blockCount = writer.blockCount();
+        }
+
+        // when
+        List<Restaurant> result = new ArrayList<>();
+        try (RestaurantBinaryFile binaryFile = RestaurantBinaryFile.open(file)) {
+            assertThat(binaryFile.blockCount()).isEqualTo(blockCount).isGreaterThan(1);
+            assertThat(binaryFile.rowCount()).isEqualTo(300);
+            for (int block = 0; block < binaryFile.blockCount(); block++) {
+                RestaurantBinaryFile.Block rowsInBlock = binaryFile.block(block);
+                while (rowsInBlock.hasNext()) {
+                    result.add(rowsInBlock.next());
+                }
+            }
+        }
+
+        // then
+        assertThat(result).hasSize(300);
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(result.get(i)).usingRecursiveComparison().isEqualTo(rows.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("블록 내용이 손상되면, 해당 블록을 읽을 때 체크섬 오류가 발생한다")
+    void corruptedBlock_FailsChecksum() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant.rbin");
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(file, 4096)) {
+            for (Restaurant row : restaurants(10)) {
+                writer.write(row);
+            }
+            writer.finish();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[RestaurantBinaryFormat.HEADER_SIZE + 10] ^= 1;
+        Files.write(file, bytes);
+
+        // when & then
+        try (RestaurantBinaryFile binaryFile = RestaurantBinaryFile.open(file)) {
+            assertThatThrownBy(() -> binaryFile.block(0))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Checksum mismatch");
+        }
+    }
+
+    @Test
+    @DisplayName("파일 끝이 잘리면, 여는 시점에 오류가 발생한다")
+    void truncatedFile_FailsOnOpen() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant.rbin");
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(file, 4096)) {
+            writer.write(restaurants(1).get(0));
+            writer.finish();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // when & then
+        assertThatThrownBy(() -> RestaurantBinaryFile.open(file))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("finish 없이 닫으면, 대상 파일과 임시 파일이 남지 않는다")
+    void closeWithoutFinish_LeavesNoFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant.rbin");
+
+        // when
+        try (RestaurantBinaryWriter writer = new RestaurantBinaryWriter(file, 4096)) {
+            writer.write(restaurants(1).get(0));
+        }
+
+        // then
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    static List<Restaurant> restaurants(int count) {
+        List<Restaurant> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(Restaurant.builder()
+                    .managementNumber("3250000-101-2024-%05d".formatted(i))
+                    .businessName(i % 3 == 0 ? null : "진양푸드" + i)
+                    .openAuthCode("3250000")
+                    .licensingDate(LocalDate.of(1990 + i % 30, 1, 1 + i % 28))
+                    .closeDate(i % 2 == 0 ? null : LocalDate.of(2024, 12, 12))
+                    .lastModifiedAt(LocalDateTime.of(2024, 12, 2, 10, 30, 15, 123_456_789))
+                    .coordinateX(new BigDecimal("385614.123456789"))
+                    .coordinateY(i % 2 == 0 ? null : new BigDecimal("-1E+3"))
+                    .locationArea(12.5 * i)
+                    .maleWorkerCount(i)
+                    .build());
+        }
+        return rows;
+    }
+}
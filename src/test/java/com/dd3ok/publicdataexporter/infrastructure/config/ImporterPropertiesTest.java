@@ -0,0 +1,38 @@
+package com.dd3ok.publicdataexporter.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImporterPropertiesTest {
+
+    private final ImporterProperties.Executor executor = new ImporterProperties.Executor();
+
+    @Test
+    @DisplayName("동시 실행 제한을 지정하지 않으면, 동시 실행 Job마다 커넥션 하나씩을 남긴 풀 크기로 제한한다")
+    void resolveConcurrencyLimit_ReservesConnectionPerJob() {
+        // when & then
+        assertThat(executor.resolveConcurrencyLimit(16, 2)).isEqualTo(14);
+        assertThat(executor.resolveConcurrencyLimit(16, 1)).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀이 동시 실행 Job 수보다 작아도, 동시 실행 제한은 최소 1이다")
+    void resolveConcurrencyLimit_IsAtLeastOne() {
+        // when & then
+        assertThat(executor.resolveConcurrencyLimit(2, 2)).isEqualTo(1);
+        assertThat(executor.resolveConcurrencyLimit(2, 4)).isEqualTo(1);
+        assertThat(executor.resolveConcurrencyLimit(10, 0)).isEqualTo(9); // Job 수 설정 오류 시에도 하나는 남김
+    }
+
+    @Test
+    @DisplayName("동시 실행 제한을 지정하면, 풀 크기와 관계없이 지정한 값을 사용한다")
+    void resolveConcurrencyLimit_UsesConfiguredLimit() {
+        // given
+        executor.setConcurrencyLimit(32);
+
+        // when & then
+        assertThat(executor.resolveConcurrencyLimit(16, 2)).isEqualTo(32);
+    }
+}
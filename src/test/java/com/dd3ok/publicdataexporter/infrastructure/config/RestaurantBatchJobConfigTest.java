@@ -0,0 +1,72 @@
+package com.dd3ok.publicdataexporter.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class RestaurantBatchJobConfigTest {
+
+    private static final int MAXIMUM_POOL_SIZE = 16;
+
+    private ImporterProperties properties;
+    private RestaurantBatchJobConfig config;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImporterProperties();
+        properties.getRunner().setMaxConcurrentJobs(2);
+        config = new RestaurantBatchJobConfig(null, null, null, null, null, properties);
+    }
+
+    @Test
+    @DisplayName("PLATFORM 모드는 파티션 수 크기의 고정 스레드 풀을 사용한다")
+    void taskExecutor_Platform_UsesFixedThreadPool() {
+        // given
+        properties.getExecutor().setGridSize(3);
+
+        // when
+        TaskExecutor executor = config.taskExecutor(MAXIMUM_POOL_SIZE);
+
+        // then
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        ThreadPoolTaskExecutor threadPool = (ThreadPoolTaskExecutor) executor;
+        assertThat(threadPool.getCorePoolSize()).isEqualTo(3);
+        assertThat(threadPool.getMaxPoolSize()).isEqualTo(3);
+        threadPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드는 Java 21 이상에서 동시 실행 Job마다 커넥션을 남긴 수로 제한한 가상 스레드 실행기를 사용한다")
+    void taskExecutor_Virtual_LimitsConcurrencyByPoolAndJobs() {
+        // given
+        assumeTrue(Runtime.version().feature() >= 21);
+        properties.getExecutor().setMode(ImporterProperties.Executor.Mode.VIRTUAL);
+
+        // when
+        TaskExecutor executor = config.taskExecutor(MAXIMUM_POOL_SIZE);
+
+        // then
+        assertThat(executor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(((SimpleAsyncTaskExecutor) executor).getConcurrencyLimit()).isEqualTo(MAXIMUM_POOL_SIZE - 2);
+    }
+
+    @Test
+    @DisplayName("VIRTUAL 모드를 Java 21 미만에서 실행하면, 기동 시 실패한다")
+    void taskExecutor_Virtual_FailsBeforeJava21() {
+        // given
+        assumeTrue(Runtime.version().feature() < 21);
+        properties.getExecutor().setMode(ImporterProperties.Executor.Mode.VIRTUAL);
+
+        // when & then
+        assertThatThrownBy(() -> config.taskExecutor(MAXIMUM_POOL_SIZE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageStartingWith("Virtual thread mode requires Java 21+");
+    }
+}
@@ -0,0 +1,145 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatasetImportRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ImporterProperties properties;
+    private final List<JobParameters> launched = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImporterProperties();
+        properties.getRunner().setMaxConcurrentJobs(1); // 시작 순서 검증을 위해 한 번에 하나씩
+    }
+
+    @Test
+    @DisplayName("입력 파일이 있는 데이터셋만, 파일 크기가 큰 순서로 적재한다")
+    void runAll_LaunchesExistingDatasetsLargestFirst() throws Exception {
+        // given
+        Files.writeString(tempDir.resolve("small.csv"), "header\n1\n");
+        Files.writeString(tempDir.resolve("large.csv"), "header\n1\n2\n3\n4\n5\n");
+        properties.setDatasets(List.of(
+                dataset("small", tempDir.resolve("small.csv"), "small_table"),
+                dataset("missing", tempDir.resolve("missing.csv"), "missing_table"),
+                dataset("large", tempDir.resolve("large.csv"), "large_table")));
+        LocalDateTime launchTime = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+        // when
+        runner(recordingLauncher()).runAll(launchTime);
+
+        // then
+        assertThat(launched).extracting(parameters -> parameters.getString("dataset"))
+                .containsExactly("large", "small");
+        assertThat(launched).extracting(parameters -> parameters.getLocalDateTime("launchTime"))
+                .containsOnly(launchTime);
+    }
+
+    @Test
+    @DisplayName("감시 모드 적재는 입력 파일과 지문으로 JobInstance를 식별하고, 실행 시각은 식별에 쓰지 않는다")
+    void run_IdentifiesInstanceByFileAndFingerprint() {
+        // given
+        Path file = tempDir.resolve("bakery_20261019.csv");
+
+        // when
+        runner(recordingLauncher()).run("bakery", file, "10-abc");
+
+        // then
+        JobParameters parameters = launched.get(0);
+        assertThat(parameters.getString("dataset")).isEqualTo("bakery");
+        assertThat(parameters.getString("inputFile")).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(parameters.getIdentifyingParameters()).containsOnlyKeys("dataset", "inputFile", "fingerprint");
+    }
+
+    @Test
+    @DisplayName("이미 완료된 입력이면 null을 반환하고, 그 밖의 실행 실패는 예외로 전파한다")
+    void run_SkipsOnlyAlreadyCompleteInstance() {
+        // given
+        JobLauncher completed = (job, parameters) -> {
+            throw new JobInstanceAlreadyCompleteException("already complete");
+        };
+        JobLauncher restartFailed = (job, parameters) -> {
+            throw new JobRestartException("restart failed");
+        };
+
+        // when & then
+        assertThat(runner(completed).run("restaurant", tempDir.resolve("restaurant_data.csv"), "1-a")).isNull();
+        assertThatThrownBy(() -> runner(restartFailed).run("restaurant", LocalDateTime.now()))
+                .isInstanceOf(JobRestartException.class);
+    }
+
+    @Test
+    @DisplayName("실행이 예외로 끝나거나 COMPLETED가 아닌 데이터셋이 있으면, 나머지를 모두 적재한 뒤 예외를 던진다")
+    void runAll_Throws_WhenAnyDatasetFails() throws Exception {
+        // given
+        Files.writeString(tempDir.resolve("broken.csv"), "header\n1\n2\n3\n");
+        Files.writeString(tempDir.resolve("failed.csv"), "header\n1\n2\n");
+        Files.writeString(tempDir.resolve("ok.csv"), "header\n1\n");
+        properties.setDatasets(List.of(
+                dataset("broken", tempDir.resolve("broken.csv"), "broken_table"),
+                dataset("failed", tempDir.resolve("failed.csv"), "failed_table"),
+                dataset("ok", tempDir.resolve("ok.csv"), "ok_table")));
+        JobLauncher jobLauncher = (job, parameters) -> {
+            launched.add(parameters);
+            String datasetName = parameters.getString("dataset");
+            if ("broken".equals(datasetName)) {
+                throw new IllegalStateException("connection refused");
+            }
+            JobExecution execution = new JobExecution(1L, parameters);
+            execution.setStatus("failed".equals(datasetName) ? BatchStatus.FAILED : BatchStatus.COMPLETED);
+            return execution;
+        };
+
+        // when & then
+        assertThatThrownBy(() -> runner(jobLauncher).runAll(LocalDateTime.now()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Dataset import failed: [broken, failed]");
+        assertThat(launched).hasSize(3);
+    }
+
+    private JobLauncher recordingLauncher() {
+        return (job, parameters) -> {
+            launched.add(parameters);
+            JobExecution execution = new JobExecution(1L, parameters);
+            execution.setStatus(BatchStatus.COMPLETED);
+            return execution;
+        };
+    }
+
+    private DatasetImportRunner runner(JobLauncher jobLauncher) {
+        DatasetRegistry registry = new DatasetRegistry(properties, new DefaultResourceLoader());
+        return new DatasetImportRunner(jobLauncher, null, registry, properties);
+    }
+
+    private static ImporterProperties.Dataset dataset(String name, Path location, String targetTable) {
+        ImporterProperties.Dataset dataset = new ImporterProperties.Dataset();
+        dataset.setName(name);
+        dataset.setLocation(location.toUri().toString());
+        dataset.setTargetTable(targetTable);
+        return dataset;
+    }
+}
@@ -0,0 +1,106 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatasetRegistryTest {
+
+    private ImporterProperties properties;
+    private DatasetRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImporterProperties();
+        properties.setDatasets(List.of(
+                dataset("restaurant", "classpath:data/restaurant_data.csv", "restaurant"),
+                dataset("bakery", "file:input/bakery_data.csv", "bakery")));
+        registry = new DatasetRegistry(properties, new DefaultResourceLoader());
+    }
+
+    @Test
+    @DisplayName("데이터셋 이름이 없으면, 기본 데이터셋(restaurant)을 반환한다")
+    void get_ReturnsDefault_WhenNameIsBlank() {
+        // when & then
+        assertThat(registry.get(null).getName()).isEqualTo(DatasetRegistry.DEFAULT_DATASET);
+        assertThat(registry.get(" ").getName()).isEqualTo(DatasetRegistry.DEFAULT_DATASET);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 데이터셋 이름이면, IllegalArgumentException을 던진다")
+    void get_Throws_WhenDatasetIsUnknown() {
+        // when & then
+        assertThatThrownBy(() -> registry.get("pharmacy"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown dataset: pharmacy");
+    }
+
+    @Test
+    @DisplayName("데이터셋마다 지정한 적재 테이블을 반환한다")
+    void get_ReturnsTargetTablePerDataset() {
+        // when & then
+        assertThat(registry.get("restaurant").getTargetTable()).isEqualTo("restaurant");
+        assertThat(registry.get("bakery").getTargetTable()).isEqualTo("bakery");
+    }
+
+    @Test
+    @DisplayName("적재 테이블이나 키 컬럼이 식별자 형식이 아니면, SQL에 넣지 않고 예외를 던진다")
+    void get_Throws_WhenIdentifierIsInvalid() {
+        // given
+        registry.get("bakery").setTargetTable("bakery; DROP TABLE restaurant");
+        registry.get("restaurant").setKeyColumn("management-number");
+
+        // when & then
+        assertThatThrownBy(() -> registry.get("bakery"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid target table");
+        assertThatThrownBy(() -> registry.get("restaurant"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Invalid key column");
+    }
+
+    @Test
+    @DisplayName("파일명 패턴이 있으면 패턴으로, 없으면 입력 파일명으로 데이터셋을 찾는다")
+    void findByFileName_MatchesPatternOrLocation() {
+        // given
+        properties.getDatasets().get(1).setFilePattern("bakery_*.csv");
+
+        // when & then
+        assertThat(registry.findByFileName("restaurant_data.csv")).get()
+                .extracting(ImporterProperties.Dataset::getName).isEqualTo("restaurant");
+        assertThat(registry.findByFileName("bakery_20261019.csv")).get()
+                .extracting(ImporterProperties.Dataset::getName).isEqualTo("bakery");
+        assertThat(registry.findByFileName("bakery_data.txt")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Job 파라미터 inputFile이 있으면, 데이터셋 기본 위치 대신 해당 파일을 읽는다")
+    void getResource_PrefersInputFile() {
+        // given
+        ImporterProperties.Dataset bakery = registry.get("bakery");
+
+        // when
+        Resource defaultResource = registry.getResource(bakery, null);
+        Resource inputResource = registry.getResource(bakery, "/data/incoming/bakery_20261019.csv");
+
+        // then
+        assertThat(defaultResource.getFilename()).isEqualTo("bakery_data.csv");
+        assertThat(inputResource.getFilename()).isEqualTo("bakery_20261019.csv");
+    }
+
+    private static ImporterProperties.Dataset dataset(String name, String location, String targetTable) {
+        ImporterProperties.Dataset dataset = new ImporterProperties.Dataset();
+        dataset.setName(name);
+        dataset.setLocation(location);
+        dataset.setTargetTable(targetTable);
+        return dataset;
+    }
+}
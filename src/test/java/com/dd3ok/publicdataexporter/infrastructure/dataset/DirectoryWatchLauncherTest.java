@@ -0,0 +1,201 @@
+package com.dd3ok.publicdataexporter.infrastructure.dataset;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectoryWatchLauncherTest {
+
+    private static final long SETTLE_MILLIS = 5000;
+
+    @TempDir
+    Path tempDir;
+
+    private ImporterProperties properties;
+    private RecordingImportRunner runner;
+    private DirectoryWatchLauncher launcher;
+    private final Map<Path, DirectoryWatchLauncher.PendingFile> pending = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        properties = new ImporterProperties();
+        DatasetRegistry registry = new DatasetRegistry(properties, new DefaultResourceLoader());
+        runner = new RecordingImportRunner();
+        launcher = new DirectoryWatchLauncher(runner, registry, properties);
+    }
+
+    @Test
+    @DisplayName("파일 크기가 settle-millis 동안 변하지 않아야, 적재를 한 번 시작한다")
+    void launchSettledFiles_WaitsUntilSizeSettles() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant_data.csv");
+        Files.writeString(file, "header\n1\n", StandardCharsets.UTF_8);
+        at(0);
+        launcher.track(pending, file);
+
+        // when & then: 안정화 전
+        at(SETTLE_MILLIS - 1);
+        launchSettledFiles();
+        assertThat(runner.fingerprints).isEmpty();
+
+        // when & then: 아직 복사 중 (크기 변경 시점부터 다시 대기)
+        Files.writeString(file, "2\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        at(SETTLE_MILLIS);
+        launchSettledFiles();
+        at(2 * SETTLE_MILLIS - 1);
+        launchSettledFiles();
+        assertThat(runner.fingerprints).isEmpty();
+
+        // when & then: 안정화 후
+        at(2 * SETTLE_MILLIS);
+        launchSettledFiles();
+        assertThat(runner.fingerprints).hasSize(1);
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 파일이 다시 도착하면, 지문이 같으므로 다시 적재하지 않는다")
+    void launch_SkipsSameFingerprint() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant_data.csv");
+        Files.writeString(file, "header\n1\n", StandardCharsets.UTF_8);
+
+        // when: 같은 내용으로 두 번 도착 (수정 시각만 변경)
+        arrive(file, 0);
+        Files.writeString(file, "header\n1\n", StandardCharsets.UTF_8);
+        arrive(file, 3 * SETTLE_MILLIS);
+
+        // then
+        assertThat(runner.fingerprints).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 파일이 도착하면, 새 지문으로 다시 적재한다")
+    void launch_RelaunchesChangedFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant_data.csv");
+        Files.writeString(file, "header\n1\n", StandardCharsets.UTF_8);
+        arrive(file, 0);
+
+        // when: 크기가 같고 내용만 다른 파일
+        Files.writeString(file, "header\n2\n", StandardCharsets.UTF_8);
+        arrive(file, 3 * SETTLE_MILLIS);
+
+        // then
+        assertThat(runner.fingerprints).hasSize(2);
+        assertThat(runner.fingerprints.get(0)).isNotEqualTo(runner.fingerprints.get(1));
+    }
+
+    @Test
+    @DisplayName("적재에 실패한 파일은, 같은 내용으로 다시 도착하면 재시도한다")
+    void launch_RetriesFailedFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant_data.csv");
+        Files.writeString(file, "header\n1\n", StandardCharsets.UTF_8);
+        runner.status = BatchStatus.FAILED;
+        arrive(file, 0);
+
+        // when
+        runner.status = BatchStatus.COMPLETED;
+        arrive(file, 3 * SETTLE_MILLIS);
+
+        // then
+        assertThat(runner.fingerprints).hasSize(2);
+        assertThat(runner.fingerprints.get(0)).isEqualTo(runner.fingerprints.get(1));
+    }
+
+    @Test
+    @DisplayName("데이터셋 파일명과 일치하지 않는 파일은, 대기 목록에 넣지 않는다")
+    void track_IgnoresUnknownFile() throws Exception {
+        // given
+        Path file = tempDir.resolve("notes.txt");
+        Files.writeString(file, "memo", StandardCharsets.UTF_8);
+
+        // when
+        launcher.track(pending, file);
+
+        // then
+        assertThat(pending).isEmpty();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 종료로 stop()이 호출되면, WatchService를 닫아 감시 루프를 끝낸다")
+    void stop_ClosesWatchServiceAndEndsWatch() throws Exception {
+        // given
+        properties.getWatch().setDirectory(tempDir.toString());
+        properties.getWatch().setSettleMillis(50);
+        launcher.start();
+        CompletableFuture<Void> watching = CompletableFuture.runAsync(() -> {
+            try {
+                launcher.watch();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(200); // 감시 시작 대기 (시작 전에 stop()되어도 루프는 바로 끝남)
+
+        // when
+        launcher.stop();
+
+        // then
+        watching.get(5, TimeUnit.SECONDS);
+        assertThat(launcher.isRunning()).isFalse();
+    }
+
+    /**
+     * 파일 도착 후 안정화 시간이 지나 적재를 시작 (적재는 호출 스레드에서 바로 실행)
+     */
+    private void arrive(Path file, long millis) {
+        at(millis);
+        launcher.track(pending, file);
+        at(millis + SETTLE_MILLIS);
+        launchSettledFiles();
+    }
+
+    private void launchSettledFiles() {
+        launcher.launchSettledFiles(pending, Runnable::run, SETTLE_MILLIS);
+    }
+
+    private void at(long millis) {
+        launcher.setClock(Clock.fixed(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+    }
+
+    private static class RecordingImportRunner extends DatasetImportRunner {
+
+        private final List<String> fingerprints = new ArrayList<>();
+        private BatchStatus status = BatchStatus.COMPLETED;
+
+        RecordingImportRunner() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public JobExecution run(String datasetName, Path inputFile, String fingerprint) {
+            fingerprints.add(fingerprint);
+            JobExecution execution = new JobExecution(1L);
+            execution.setStatus(status);
+            return execution;
+        }
+    }
+}
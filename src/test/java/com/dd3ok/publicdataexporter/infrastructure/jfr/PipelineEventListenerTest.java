@@ -0,0 +1,184 @@
+package com.dd3ok.publicdataexporter.infrastructure.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PipelineEventListenerTest {
+
+    private static final String OFFSET_KEY = "reader.byte.offset";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("녹화 중 청크를 처리하면, 단계별 이벤트와 청크 이벤트를 건수/바이트 수와 함께 기록한다")
+    void chunk_RecordsPhaseEvents() throws Exception {
+        // given
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("workerStep:partition0", 1L);
+        stepExecution.getExecutionContext().putLong(OFFSET_KEY, 100);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        PipelineEventListener listener = new PipelineEventListener(OFFSET_KEY);
+        Path file = tempDir.resolve("test.jfr");
+
+        // when: 3건 읽기, 1건 필터, 2건 쓰기 후 커밋 (Reader가 오프셋을 250으로 갱신)
+        try (Recording recording = new Recording()) {
+            recording.enable(ChunkEvent.class).withoutThreshold();
+            recording.enable(ChunkReadEvent.class).withoutThreshold();
+            recording.enable(ChunkProcessEvent.class).withoutThreshold();
+            recording.enable(ChunkWriteEvent.class).withoutThreshold();
+            recording.enable(PartitionEvent.class).withoutThreshold();
+            recording.start();
+
+            listener.beforeStep(stepExecution);
+            listener.beforeChunk(chunkContext);
+            for (String item : List.of("a", "b", "c")) {
+                listener.afterRead(item);
+            }
+            for (String item : List.of("a", "b", "c")) {
+                listener.beforeProcess(item);
+                listener.afterProcess(item, item.equals("b") ? null : item);
+            }
+            Chunk<String> items = Chunk.of("a", "c");
+            listener.beforeWrite(items);
+            listener.afterWrite(items);
+            stepExecution.getExecutionContext().putLong(OFFSET_KEY, 250);
+            listener.afterChunk(chunkContext);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).extracting(event -> event.getEventType().getName()).containsExactlyInAnyOrder(
+                "com.dd3ok.publicdataexporter.ChunkRead",
+                "com.dd3ok.publicdataexporter.ChunkProcess",
+                "com.dd3ok.publicdataexporter.ChunkWrite",
+                "com.dd3ok.publicdataexporter.Chunk");
+
+        RecordedEvent chunk = find(events, "com.dd3ok.publicdataexporter.Chunk");
+        assertThat(chunk.getString("dataset")).isEqualTo("restaurant");
+        assertThat(chunk.getString("partition")).isEqualTo("workerStep:partition0");
+        assertThat(chunk.getLong("chunkIndex")).isZero();
+        assertThat(chunk.getLong("rowCount")).isEqualTo(3);
+        assertThat(chunk.getLong("filterCount")).isEqualTo(1);
+        assertThat(chunk.getLong("bytes")).isEqualTo(150);
+        assertThat(chunk.getBoolean("failed")).isFalse();
+
+        assertThat(find(events, "com.dd3ok.publicdataexporter.ChunkWrite").getLong("rowCount")).isEqualTo(2);
+        assertThat(stepExecution.getExecutionContext().getLong(PipelineEventListener.START_OFFSET_KEY)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("하나의 리스너를 공유해도, 파티션 스레드마다 청크 상태를 따로 둔다")
+    void chunk_KeepsStatePerPartitionThread() throws Exception {
+        // given
+        StepExecution first = MetaDataInstanceFactory.createStepExecution("workerStep:partition0", 1L);
+        StepExecution second = MetaDataInstanceFactory.createStepExecution("workerStep:partition1", 2L);
+        PipelineEventListener listener = new PipelineEventListener(OFFSET_KEY);
+        ExecutorService firstThread = Executors.newSingleThreadExecutor();
+        ExecutorService secondThread = Executors.newSingleThreadExecutor();
+        Path file = tempDir.resolve("test.jfr");
+
+        // when: 첫 파티션이 청크를 읽는 도중 두 번째 파티션이 청크 하나를 끝까지 처리
+        try (Recording recording = new Recording()) {
+            recording.enable(ChunkEvent.class).withoutThreshold();
+            recording.start();
+
+            firstThread.submit(() -> {
+                listener.beforeStep(first);
+                listener.beforeChunk(new ChunkContext(new StepContext(first)));
+                listener.afterRead("a");
+                listener.afterRead("b");
+            }).get();
+            secondThread.submit(() -> {
+                listener.beforeStep(second);
+                runChunks(listener, new ChunkContext(new StepContext(second)), Chunk.of("a"), 1);
+                listener.afterStep(second);
+            }).get();
+            firstThread.submit(() -> {
+                listener.afterRead("c");
+                listener.afterChunk(new ChunkContext(new StepContext(first)));
+                listener.afterStep(first);
+            }).get();
+
+            recording.stop();
+            recording.dump(file);
+        } finally {
+            firstThread.shutdown();
+            secondThread.shutdown();
+        }
+
+        // then
+        assertThat(RecordingFile.readAllEvents(file))
+                .extracting(event -> event.getString("partition") + "=" + event.getLong("rowCount"))
+                .containsExactlyInAnyOrder("workerStep:partition0=3", "workerStep:partition1=1");
+    }
+
+    @Test
+    @DisplayName("녹화 중이 아니면, 이벤트 객체를 만들지 않고 ExecutionContext에도 쓰지 않는다")
+    void chunk_NotRecording_AllocatesAndWritesNothing() {
+        // given: 녹화 없음
+        assumeTrue(!EventType.getEventType(ChunkEvent.class).isEnabled()
+                && !EventType.getEventType(PartitionEvent.class).isEnabled());
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("workerStep:partition0", 1L);
+        stepExecution.getExecutionContext().putLong(OFFSET_KEY, 100);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        PipelineEventListener listener = new PipelineEventListener(OFFSET_KEY);
+        Chunk<String> items = Chunk.of("a");
+        listener.beforeStep(stepExecution);
+        runChunks(listener, chunkContext, items, 100); // 클래스 로딩 등 최초 호출 비용 제외
+
+        // when: 청크 10000개 처리 (녹화 중이었다면 청크마다 이벤트 객체 4개)
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        runChunks(listener, chunkContext, items, 10_000);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // then
+        assertThat(allocated).isLessThan(10_000L * 16);
+        assertThat(stepExecution.getExecutionContext().containsKey(PipelineEventListener.START_OFFSET_KEY)).isFalse();
+    }
+
+    private static void runChunks(PipelineEventListener listener, ChunkContext chunkContext, Chunk<String> items,
+                                  int count) {
+        for (int i = 0; i < count; i++) {
+            listener.beforeChunk(chunkContext);
+            listener.afterRead("a");
+            listener.beforeProcess("a");
+            listener.afterProcess("a", "a");
+            listener.beforeWrite(items);
+            listener.afterWrite(items);
+            listener.afterChunk(chunkContext);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
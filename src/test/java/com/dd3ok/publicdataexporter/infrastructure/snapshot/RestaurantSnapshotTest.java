@@ -0,0 +1,106 @@
+package com.dd3ok.publicdataexporter.infrastructure.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private RestaurantSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // given: 관리번호 순서와 다르게 추가된 4건
+        RestaurantSnapshotBuilder builder = new RestaurantSnapshotBuilder();
+        builder.add("3250000-101-2024-00139", "진양푸드", "부산광역시 중구 중앙대로 2", "3250000", "기타",
+                LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 12), 35.0976, 129.0364);
+        builder.add("3000000-101-2001-00001", "진미식당", null, "3000000", "한식",
+                LocalDate.of(2001, 1, 1), null, null, null);
+        builder.add("3250000-101-2020-00001", "바다횟집", null, "3250000", "회집",
+                LocalDate.of(2020, 5, 1), null, null, null);
+        builder.add("3250000-101-2021-00007", "진미분식", null, "3250000", "한식",
+                null, null, null, null);
+
+        Path file = tempDir.resolve("restaurant.snapshot");
+        builder.writeTo(file);
+        snapshot = RestaurantSnapshot.open(file);
+    }
+
+    @Test
+    @DisplayName("관리번호로 조회하면, 저장된 컬럼 값이 그대로 복원된다")
+    void findByManagementNumber_RestoresColumns() {
+        // when
+        RestaurantSnapshot.RestaurantView view = snapshot.findByManagementNumber("3250000-101-2024-00139").orElseThrow();
+
+        // then
+        assertThat(snapshot.size()).isEqualTo(4);
+        assertThat(view.businessName()).isEqualTo("진양푸드");
+        assertThat(view.roadNameAddress()).isEqualTo("부산광역시 중구 중앙대로 2");
+        assertThat(view.openAuthCode()).isEqualTo("3250000");
+        assertThat(view.industryType()).isEqualTo("기타");
+        assertThat(view.licensingDate()).isEqualTo(LocalDate.of(2024, 12, 2));
+        assertThat(view.closeDate()).isEqualTo(LocalDate.of(2024, 12, 12));
+        assertThat(view.latitude()).isEqualTo(35.0976);
+        assertThat(snapshot.findByManagementNumber("없는-관리번호")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("개방자치단체코드로 조회하면, 폐업일자가 없는 음식점만 반환된다")
+    void findOpenByOpenAuthCode_ExcludesClosed() {
+        // when
+        List<RestaurantSnapshot.RestaurantView> result = snapshot.findOpenByOpenAuthCode("3250000", 100);
+
+        // then
+        assertThat(result).extracting(RestaurantSnapshot.RestaurantView::managementNumber)
+                .containsExactly("3250000-101-2020-00001", "3250000-101-2021-00007");
+    }
+
+    @Test
+    @DisplayName("사업장명 접두어와 업태구분명으로 조회할 수 있다")
+    void findByBusinessNamePrefix_AndIndustryType() {
+        // when
+        List<RestaurantSnapshot.RestaurantView> byPrefix = snapshot.findByBusinessNamePrefix("진미", 100);
+        List<RestaurantSnapshot.RestaurantView> byIndustry = snapshot.findByIndustryType("한식", 100);
+
+        // then
+        assertThat(byPrefix).extracting(RestaurantSnapshot.RestaurantView::businessName)
+                .containsExactly("진미분식", "진미식당");
+        assertThat(byIndustry).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("컬럼 배열 초기 용량보다 많은 행을 역순으로 추가해도, 관리번호 순서로 정렬되어 조회된다")
+    void writeTo_SortsRowsBeyondInitialCapacity() throws Exception {
+        // given
+        RestaurantSnapshotBuilder builder = new RestaurantSnapshotBuilder();
+        for (int i = 2999; i >= 0; i--) {
+            builder.add("M-%04d".formatted(i), "식당" + i, null, "3000000", i % 2 == 0 ? "한식" : null,
+                    LocalDate.ofEpochDay(i), null, (double) i, null);
+        }
+        Path file = tempDir.resolve("large.snapshot");
+
+        // when
+        builder.writeTo(file);
+        RestaurantSnapshot large = RestaurantSnapshot.open(file);
+
+        // then
+        assertThat(large.size()).isEqualTo(3000);
+        RestaurantSnapshot.RestaurantView view = large.findByManagementNumber("M-1234").orElseThrow();
+        assertThat(view.businessName()).isEqualTo("식당1234");
+        assertThat(view.licensingDate()).isEqualTo(LocalDate.ofEpochDay(1234));
+        assertThat(view.latitude()).isEqualTo(1234.0);
+        assertThat(large.findOpenByOpenAuthCode("3000000", 3)).extracting(RestaurantSnapshot.RestaurantView::managementNumber)
+                .containsExactly("M-0000", "M-0001", "M-0002");
+        assertThat(large.findByIndustryType("한식", 5000)).hasSize(1500);
+    }
+}
@@ -0,0 +1,100 @@
+package com.dd3ok.publicdataexporter.infrastructure.summary;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSummaryCollectorTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 청크의 행만 파티션 합계에 반영하고, 롤백된 청크의 집계는 버린다")
+    void add_DiscardsRolledBackChunk() {
+        // given
+        RestaurantSummaryCollector collector = new RestaurantSummaryCollector();
+
+        // when: 첫 청크 커밋, 두 번째 청크 롤백
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> {
+            collector.add("3000000", "한식", 2001, false);
+            collector.add("3000000", "분식", RestaurantSummaryCollector.UNKNOWN_YEAR, true);
+        });
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () ->
+                collector.add("3000000", "한식", 2001, false));
+
+        // then
+        assertThat(collector.totals()).containsOnly(
+                Map.entry("OPEN_AUTH_CODE:3000000", 2L),
+                Map.entry("INDUSTRY_TYPE:한식", 1L),
+                Map.entry("INDUSTRY_TYPE:분식", 1L),
+                Map.entry("STATUS:OPEN", 1L),
+                Map.entry("STATUS:CLOSED", 1L),
+                Map.entry("LICENSING_YEAR:2001", 1L),
+                Map.entry("LICENSING_YEAR:", 1L));
+    }
+
+    @Test
+    @DisplayName("커밋 직전 저장하는 ExecutionContext에는 현재 청크까지 포함되고, 재시작 시 그 합계부터 이어서 집계한다")
+    void update_IncludesCurrentChunkAndRestoresOnOpen() {
+        // given
+        RestaurantSummaryCollector collector = new RestaurantSummaryCollector();
+        ExecutionContext executionContext = new ExecutionContext();
+
+        // when: 청크 쓰기 후 커밋 직전 update
+        TransactionSynchronizationManager.initSynchronization();
+        collector.add(null, "한식", 1999, false);
+        collector.update(executionContext);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        RestaurantSummaryCollector restarted = new RestaurantSummaryCollector();
+        restarted.open(executionContext);
+        restarted.add(null, "한식", 1999, false);
+
+        // then
+        assertThat(restarted.totals())
+                .containsEntry("OPEN_AUTH_CODE:", 2L)
+                .containsEntry("INDUSTRY_TYPE:한식", 2L)
+                .containsEntry("LICENSING_YEAR:1999", 2L);
+    }
+
+    @Test
+    @DisplayName("파티션별 합계를 키마다 더한다")
+    void merge_SumsPartitionTotals() {
+        // given
+        Map<String, Long> totals = new HashMap<>();
+
+        // when
+        RestaurantSummaryCollector.merge(totals, Map.of("STATUS:OPEN", 3L, "STATUS:CLOSED", 1L));
+        RestaurantSummaryCollector.merge(totals, Map.of("STATUS:OPEN", 2L));
+        RestaurantSummaryCollector.merge(totals, null);
+
+        // then
+        assertThat(totals).containsOnly(Map.entry("STATUS:OPEN", 5L), Map.entry("STATUS:CLOSED", 1L));
+        assertThat(RestaurantSummaryCollector.dimension("STATUS:OPEN")).isEqualTo(RestaurantSummaryDimension.STATUS);
+        assertThat(RestaurantSummaryCollector.value("INDUSTRY_TYPE:기타:일반")).isEqualTo("기타:일반");
+    }
+
+    private static void inTransaction(int status, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.dd3ok.publicdataexporter.infrastructure.summary;
+
+import com.dd3ok.publicdataexporter.infrastructure.config.ImporterProperties;
+import com.dd3ok.publicdataexporter.infrastructure.dataset.DatasetRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RestaurantSummaryServiceTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RestaurantSummaryService summaryService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:summary;MODE=MYSQL", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource); // 적재/요약 테이블
+        ImporterProperties properties = new ImporterProperties();
+        summaryService = new RestaurantSummaryService(
+                dataSource, new DatasetRegistry(properties, new DefaultResourceLoader()), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("이번 Job에서 적재한 건수를 기존 요약 값에 더한다")
+    void write_AddsLoadedCounts() {
+        // given: 첫 적재 2건
+        insert("M1", "2001-03-01", null, "한식", "3000000");
+        insert("M2", null, "2020-01-01", "분식", "3000000");
+        summaryService.write("restaurant", Map.of(
+                "OPEN_AUTH_CODE:3000000", 2L, "STATUS:OPEN", 1L, "STATUS:CLOSED", 1L));
+
+        // when: 두 번째 적재 1건
+        insert("M3", "2001-05-01", null, "한식", "3000000");
+        int rows = summaryService.write("restaurant", Map.of("OPEN_AUTH_CODE:3000000", 1L, "STATUS:OPEN", 1L));
+
+        // then
+        assertThat(rows).isEqualTo(2);
+        assertThat(count("OPEN_AUTH_CODE", "3000000")).isEqualTo(3L);
+        assertThat(count("STATUS", "OPEN")).isEqualTo(2L);
+        assertThat(count("STATUS", "CLOSED")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("요약 테이블이 비어 있고 이전 적재분이 있으면 적재 테이블 GROUP BY로 한 번 채운다")
+    void write_RebuildsWhenSummaryIsEmpty() {
+        // given: 요약 기능을 켜기 전 적재분 2건 + 이번 적재 1건
+        insert("M1", "2001-03-01", null, "한식", "3000000");
+        insert("M2", null, "2020-01-01", null, "3000000");
+        insert("M3", "2015-07-01", null, "한식", "3110000");
+
+        // when
+        summaryService.write("restaurant", Map.of("STATUS:OPEN", 1L, "OPEN_AUTH_CODE:3110000", 1L));
+
+        // then
+        assertThat(count("OPEN_AUTH_CODE", "3000000")).isEqualTo(2L);
+        assertThat(count("OPEN_AUTH_CODE", "3110000")).isEqualTo(1L);
+        assertThat(count("INDUSTRY_TYPE", "한식")).isEqualTo(2L);
+        assertThat(count("INDUSTRY_TYPE", "")).isEqualTo(1L);
+        assertThat(count("STATUS", "OPEN")).isEqualTo(2L);
+        assertThat(count("STATUS", "CLOSED")).isEqualTo(1L);
+        assertThat(count("LICENSING_YEAR", "2001")).isEqualTo(1L);
+        assertThat(count("LICENSING_YEAR", "")).isEqualTo(1L);
+    }
+
+    private void insert(String managementNumber, String licensingDate, String closeDate,
+                        String industryType, String openAuthCode) {
+        jdbcTemplate.update("""
+                INSERT INTO restaurant (management_number, licensing_date, close_date, industry_type, open_auth_code)
+                VALUES (?, CAST(? AS DATE), CAST(? AS DATE), ?, ?)
+                """, managementNumber, licensingDate, closeDate, industryType, openAuthCode);
+    }
+
+    private Long count(String dimension, String value) {
+        return jdbcTemplate.queryForObject(
+                "SELECT row_count FROM restaurant_summary WHERE dimension = ? AND dimension_value = ?",
+                Long.class, dimension, value);
+    }
+}
@@ -30,7 +30,19 @@ CREATE TABLE IF NOT EXISTS restaurant
     traditional_business_number VARCHAR(50),        -- 추가
     traditional_business_main_food VARCHAR(255),    -- 추가
     total_worker_count          INT,                -- 기존 유지
+    latitude                    DOUBLE,
+    longitude                   DOUBLE,
+    geohash                     VARCHAR(12),
     created_at                  DATETIME DEFAULT CURRENT_TIMESTAMP,
     updated_at                  DATETIME DEFAULT CURRENT_TIMESTAMP,
     CONSTRAINT uk_restaurant_management_number UNIQUE (management_number)
 );
+
+CREATE TABLE IF NOT EXISTS restaurant_summary
+(
+    dimension                   VARCHAR(20)  NOT NULL,
+    dimension_value             VARCHAR(100) NOT NULL,
+    row_count                   BIGINT       NOT NULL,
+    updated_at                  DATETIME DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (dimension, dimension_value)
+);